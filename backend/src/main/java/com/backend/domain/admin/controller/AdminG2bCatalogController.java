@@ -0,0 +1,38 @@
+package com.backend.domain.admin.controller;
+
+import com.backend.domain.generation.dto.G2bCatalogStatusDto;
+import com.backend.domain.generation.service.G2bCatalogIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/g2b-catalog")
+@RequiredArgsConstructor
+public class AdminG2bCatalogController {
+    private final G2bCatalogIndex catalogIndex;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<G2bCatalogStatusDto> getStatus() {
+        return ResponseEntity.ok(new G2bCatalogStatusDto(catalogIndex.getSnapshot()));
+    }
+
+    /**
+     * 카탈로그 파일을 교체한 뒤 재시작 없이 인덱스를 다시 적재한다.
+     */
+    @PostMapping("/reload")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<G2bCatalogStatusDto> reload() throws IOException {
+        log.info("관리자 요청으로 G2B 카탈로그 재적재");
+        return ResponseEntity.ok(new G2bCatalogStatusDto(catalogIndex.reload()));
+    }
+}
@@ -0,0 +1,30 @@
+package com.backend.domain.generation.async;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * CompletableFuture 취소 전파 유틸
+ * thenApply/thenCombine 등으로 파생된 Future를 취소해도 원본 Future는 취소되지 않는다.
+ * 파생 Future가 취소되면 원본(상류 AI 호출, 스크래핑 등)까지 취소해 상류 호출과 스레드를 즉시 놓아준다.
+ */
+public final class Cancellation {
+
+    private Cancellation() {
+    }
+
+    /**
+     * downstream이 취소되면 upstreams도 취소한다. (이미 끝난 upstream은 영향 없음)
+     *
+     * @return downstream (체이닝용)
+     */
+    public static <F extends CompletableFuture<?>> F propagate(F downstream, CompletableFuture<?>... upstreams) {
+        downstream.whenComplete((result, throwable) -> {
+            if (downstream.isCancelled()) {
+                for (CompletableFuture<?> upstream : upstreams) {
+                    upstream.cancel(true);
+                }
+            }
+        });
+        return downstream;
+    }
+}
@@ -0,0 +1,75 @@
+package com.backend.domain.generation.async;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 완료된 작업의 압축 표현
+ * 결과 객체 그래프 대신 미리 직렬화한 UTF-8 JSON 바이트만 보관하고, 일정 크기 이상이면 gzip으로 압축한다.
+ * 조회 시에는 바이트를 그대로 응답 JSON에 끼워 넣는다. (역직렬화하지 않음)
+ */
+public record CompletedTask(TaskStatus status, byte[] resultJson, boolean compressed, String error)
+        implements TaskEntry {
+
+    public static CompletedTask completed(byte[] resultJson, int compressMinBytes) {
+        if (resultJson.length >= compressMinBytes) {
+            return new CompletedTask(TaskStatus.COMPLETED, gzip(resultJson), true, null);
+        }
+        return new CompletedTask(TaskStatus.COMPLETED, resultJson, false, null);
+    }
+
+    public static CompletedTask failed(String error) {
+        return new CompletedTask(TaskStatus.FAILED, null, false, error);
+    }
+
+    public static CompletedTask cancelled() {
+        return new CompletedTask(TaskStatus.CANCELLED, null, false, null);
+    }
+
+    @Override
+    public boolean isDone() {
+        return true;
+    }
+
+    public int sizeInBytes() {
+        return resultJson == null ? 0 : resultJson.length;
+    }
+
+    public TaskResult<?> toTaskResult() {
+        return switch (status) {
+            case COMPLETED -> TaskResult.completed(new RawValue(new String(json(), StandardCharsets.UTF_8)));
+            case FAILED -> TaskResult.failed(error);
+            case CANCELLED -> TaskResult.cancelled();
+            default -> throw new IllegalStateException("완료 상태가 아닙니다: " + status);
+        };
+    }
+
+    private byte[] json() {
+        if (!compressed) {
+            return resultJson;
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(resultJson))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,146 @@
+package com.backend.domain.generation.async;
+
+import com.backend.domain.member.entity.Role;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랜/회원 우선순위를 반영하는 생성 작업 실행 풀
+ * 고정 개수의 작업 스레드가 {@link FairQueue} 순서대로 작업을 꺼내 실행한다. (FIFO 대신 플랜 가중치 + 회원별 공정성)
+ * - {@link #withPriority(WorkPriority)}로 받은 Executor에 넣은 작업은 해당 우선순위로 대기한다.
+ * - 우선순위 없이 넣은 작업(결과 전달 등 내부 후속 처리)은 먼저 처리한다.
+ * - 작업 실행 중에는 그 우선순위를 현재 스레드에 연결한다. ({@link WorkPriority#current()})
+ * - 대기열이 가득 차면 RejectedExecutionException을 던진다. (기존 ThreadPoolTaskExecutor의 AbortPolicy와 동일)
+ * 플랜별 대기 시간은 generation.executor.queue.wait(tier) 지표로 기록한다.
+ */
+@Slf4j
+public class FairPriorityExecutor implements Executor {
+
+    private final int poolSize;
+    private final int queueCapacity;
+    // 플랜별 대기 시간 Timer. 작업마다 등록/조회하지 않도록 미리 만들어 둔다.
+    private final Map<Role, Timer> queueWaitTimers = new EnumMap<>(Role.class);
+    private final Timer internalQueueWaitTimer;
+    private final FairQueue<QueuedTask> queue = new FairQueue<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean shutdown = false;
+
+    public FairPriorityExecutor(String threadNamePrefix, int poolSize, int queueCapacity, MeterRegistry meterRegistry) {
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+        for (Role plan : Role.values()) {
+            queueWaitTimers.put(plan, queueWaitTimer(meterRegistry, plan.name()));
+        }
+        this.internalQueueWaitTimer = queueWaitTimer(meterRegistry, "INTERNAL");
+
+        for (int i = 1; i <= poolSize; i++) {
+            Thread worker = new Thread(this::runWorker, threadNamePrefix + i);
+            workers.add(worker);
+            worker.start();
+        }
+        Gauge.builder("generation.executor.queue", this, FairPriorityExecutor::getQueueSize)
+                .description("생성 작업 실행 풀 대기 작업 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        enqueue(command, null);
+    }
+
+    /**
+     * 넣는 작업이 주어진 우선순위로 대기하는 Executor
+     */
+    public Executor withPriority(WorkPriority priority) {
+        return command -> enqueue(command, priority);
+    }
+
+    private void enqueue(Runnable command, WorkPriority priority) {
+        synchronized (queue) {
+            if (shutdown) {
+                throw new RejectedExecutionException("실행 풀이 종료되었습니다.");
+            }
+            if (queue.size() >= queueCapacity) {
+                throw new RejectedExecutionException("실행 풀 대기열이 가득 찼습니다. (capacity=" + queueCapacity + ")");
+            }
+            queue.add(new QueuedTask(command, priority, System.nanoTime()), priority);
+            queue.notify();
+        }
+    }
+
+    private void runWorker() {
+        while (true) {
+            QueuedTask task;
+            synchronized (queue) {
+                while (queue.isEmpty() && !shutdown) {
+                    try {
+                        queue.wait();
+                    } catch (InterruptedException e) {
+                        if (shutdown) {
+                            return;
+                        }
+                    }
+                }
+                if (shutdown && queue.isEmpty()) {
+                    return;
+                }
+                task = queue.poll();
+            }
+
+            Timer queueWaitTimer = task.priority() == null
+                    ? internalQueueWaitTimer
+                    : queueWaitTimers.get(task.priority().plan());
+            queueWaitTimer.record(System.nanoTime() - task.enqueuedNanos(), TimeUnit.NANOSECONDS);
+            // 우선순위가 있는 작업 안에서 시작한 AI 호출도 같은 우선순위로 대기하도록 스레드에 연결
+            try (WorkPriority.Scope ignored = task.priority() == null ? WorkPriority.Scope.NONE : task.priority().enter()) {
+                task.command().run();
+            } catch (Throwable t) {
+                log.error("생성 작업 실행 중 처리되지 않은 오류", t);
+            }
+        }
+    }
+
+    private static Timer queueWaitTimer(MeterRegistry meterRegistry, String tier) {
+        return Timer.builder("generation.executor.queue.wait")
+                .description("생성 작업이 실행 풀에서 대기한 시간")
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 작업을 받지 않고, 대기 중인 작업까지 처리한 뒤 작업 스레드를 종료한다.
+     */
+    public void shutdown() {
+        synchronized (queue) {
+            shutdown = true;
+            queue.notifyAll();
+        }
+    }
+
+    public int getQueueSize() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    private record QueuedTask(Runnable command, WorkPriority priority, long enqueuedNanos) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.backend.domain.generation.async;
+
+import com.backend.domain.member.entity.Role;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 플랜 가중치 + 회원별 공정 대기열
+ * - 플랜 사이: stride 스케줄링. 플랜마다 pass 값을 두고 가장 작은 플랜에서 꺼낸 뒤 1/가중치만큼 늘린다.
+ *   대기 작업이 밀려 있으면 플랜 가중치 비율만큼 차례가 오고, 무료 플랜도 굶지 않는다.
+ *   쉬다가 다시 들어온 플랜은 현재 pass부터 시작해 밀린 몫을 한꺼번에 쓰지 못한다.
+ * - 같은 플랜 안: 회원 단위 라운드 로빈. 한 회원이 작업을 몰아 넣어도 다른 회원과 번갈아 처리된다.
+ * - 우선순위 없는 내부 작업(결과 전달 등 짧은 후속 처리)은 가장 먼저 처리한다.
+ * 스레드 안전하지 않으므로 호출부에서 동기화해야 한다.
+ */
+public final class FairQueue<T> {
+
+    private static final Long UNKNOWN_MEMBER = -1L;
+
+    private final Deque<T> unprioritized = new ArrayDeque<>();
+    private final Map<Role, Lane> lanes = new EnumMap<>(Role.class);
+    private double globalPass = 0;
+    private int size = 0;
+
+    public void add(T item, WorkPriority priority) {
+        size++;
+        if (priority == null) {
+            unprioritized.addLast(item);
+            return;
+        }
+        Lane lane = lanes.computeIfAbsent(priority.plan(), plan -> new Lane(1.0 / priority.weight()));
+        if (lane.size == 0) {
+            lane.pass = Math.max(lane.pass, globalPass);
+        }
+        lane.add(priority.memberId() == null ? UNKNOWN_MEMBER : priority.memberId(), item);
+    }
+
+    /**
+     * 다음 차례의 항목을 꺼낸다. 비어 있으면 null
+     */
+    public T poll() {
+        if (size == 0) {
+            return null;
+        }
+        size--;
+        if (!unprioritized.isEmpty()) {
+            return unprioritized.pollFirst();
+        }
+
+        Lane next = null;
+        for (Lane lane : lanes.values()) {
+            if (lane.size > 0 && (next == null || lane.pass < next.pass
+                    || (lane.pass == next.pass && lane.stride < next.stride))) {
+                next = lane;
+            }
+        }
+        globalPass = next.pass;
+        next.pass += next.stride;
+        return next.poll();
+    }
+
+    /**
+     * 대기 중인 항목을 뺀다. (대기 중 취소 등)
+     */
+    public boolean remove(T item) {
+        boolean removed = unprioritized.remove(item);
+        if (!removed) {
+            for (Lane lane : lanes.values()) {
+                if (lane.remove(item)) {
+                    removed = true;
+                    break;
+                }
+            }
+        }
+        if (removed) {
+            size--;
+        }
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private final class Lane {
+        private final double stride;
+        private final Map<Long, Deque<T>> byMember = new HashMap<>();
+        private final Deque<Long> rotation = new ArrayDeque<>();
+        private double pass;
+        private int size;
+
+        private Lane(double stride) {
+            this.stride = stride;
+        }
+
+        private void add(Long memberId, T item) {
+            Deque<T> queue = byMember.get(memberId);
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                byMember.put(memberId, queue);
+                rotation.addLast(memberId);
+            }
+            queue.addLast(item);
+            size++;
+        }
+
+        private T poll() {
+            Long memberId = rotation.pollFirst();
+            Deque<T> queue = byMember.get(memberId);
+            T item = queue.pollFirst();
+            if (queue.isEmpty()) {
+                byMember.remove(memberId);
+            } else {
+                rotation.addLast(memberId);
+            }
+            size--;
+            return item;
+        }
+
+        private boolean remove(T item) {
+            for (Map.Entry<Long, Deque<T>> entry : byMember.entrySet()) {
+                if (entry.getValue().remove(item)) {
+                    if (entry.getValue().isEmpty()) {
+                        byMember.remove(entry.getKey());
+                        rotation.remove(entry.getKey());
+                    }
+                    size--;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.backend.domain.generation.async;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 비동기 조회가 진행 중이면 새로 호출하지 않고 진행 중인 Future에 합류시키는 유틸
+ * 완료되는 즉시 키를 비우므로 결과를 보관하지 않는다. (결과 보관은 캐시 계층의 역할)
+ * 호출자마다 별도의 Future를 돌려주며, 합류한 호출자가 모두 취소하면 진행 중인 호출도 취소한다.
+ *
+ * @param <K> 조회 키 타입
+ * @param <V> 조회 결과 타입
+ */
+@Slf4j
+public class SingleFlight<K, V> {
+    private final String name;
+    private final ConcurrentMap<K, Flight> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 합류한 호출자는 같은 결과 객체를 공유하므로 결과 객체를 직접 수정하면 안 된다.
+     * 반환된 Future를 취소하면 이 호출자만 빠지고, 남은 호출자가 없을 때만 실제 호출이 취소된다.
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+        while (true) {
+            Flight existing = inFlight.get(key);
+            if (existing != null) {
+                if (existing.join()) {
+                    log.info("진행 중인 요청에 합류: flight={}, inFlight={}", name, inFlight.size());
+                    return existing.newWaiter(key);
+                }
+                // 모든 호출자가 취소해 정리 중인 호출에는 합류하지 않고 새로 시작한다
+                inFlight.remove(key, existing);
+                continue;
+            }
+
+            Flight flight = new Flight();
+            flight.join();
+            if (inFlight.putIfAbsent(key, flight) == null) {
+                flight.start(key, call);
+                return flight.newWaiter(key);
+            }
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private final class Flight {
+        private final CompletableFuture<V> promise = new CompletableFuture<>();
+        private volatile CompletableFuture<V> call;
+        private int waiters = 0;
+        private boolean abandoned = false;
+
+        private void start(K key, Supplier<CompletableFuture<V>> starter) {
+            try {
+                call = starter.get();
+                call.whenComplete((result, throwable) -> {
+                    // 완료 통지 전에 먼저 제거해야 이후 요청이 끝난 Future에 합류하지 않는다
+                    inFlight.remove(key, this);
+                    if (throwable != null) {
+                        promise.completeExceptionally(throwable);
+                    } else {
+                        promise.complete(result);
+                    }
+                });
+            } catch (Throwable throwable) {
+                inFlight.remove(key, this);
+                promise.completeExceptionally(throwable);
+            }
+        }
+
+        private synchronized boolean join() {
+            if (abandoned) {
+                return false;
+            }
+            waiters++;
+            return true;
+        }
+
+        private CompletableFuture<V> newWaiter(K key) {
+            CompletableFuture<V> waiter = new CompletableFuture<>();
+            promise.whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    waiter.completeExceptionally(throwable);
+                } else {
+                    waiter.complete(result);
+                }
+            });
+            waiter.whenComplete((result, throwable) -> {
+                if (waiter.isCancelled()) {
+                    leave(key);
+                }
+            });
+            return waiter;
+        }
+
+        private void leave(K key) {
+            synchronized (this) {
+                if (--waiters > 0 || promise.isDone()) {
+                    return;
+                }
+                abandoned = true;
+            }
+            inFlight.remove(key, this);
+            log.info("합류한 요청이 모두 취소되어 진행 중인 호출을 취소: flight={}", name);
+            if (call != null) {
+                call.cancel(true);
+            }
+        }
+    }
+}
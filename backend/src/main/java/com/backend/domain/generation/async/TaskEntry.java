@@ -0,0 +1,27 @@
+package com.backend.domain.generation.async;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 작업 저장소(taskCache)에 보관되는 항목
+ * 진행 중에는 Future를 들고 있다가, 완료되면 상태와 직렬화된 결과만 남긴 {@link CompletedTask}로 교체된다.
+ * 공유 저장소에서 다른 인스턴스가 진행 중인 작업은 Future 없이 {@link Remote}로 조회된다.
+ */
+public sealed interface TaskEntry permits TaskEntry.Running, TaskEntry.Remote, CompletedTask {
+
+    boolean isDone();
+
+    record Running(CompletableFuture<?> future) implements TaskEntry {
+        @Override
+        public boolean isDone() {
+            return future.isDone();
+        }
+    }
+
+    record Remote() implements TaskEntry {
+        @Override
+        public boolean isDone() {
+            return false;
+        }
+    }
+}
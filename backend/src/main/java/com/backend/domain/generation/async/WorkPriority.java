@@ -0,0 +1,63 @@
+package com.backend.domain.generation.async;
+
+import com.backend.domain.member.entity.Role;
+
+/**
+ * 생성 작업의 스케줄링 우선순위 (요청한 회원과 플랜)
+ * 실행 풀과 AI 호출 대기열이 플랜 가중치와 회원별 공정성에 따라 순서를 정할 때 쓴다. ({@link FairQueue})
+ * 요청 처리 중 동기 호출 구간에서는 {@link #enter()}로 현재 스레드에 연결해 하위 계층(AI 호출)이 꺼내 쓸 수 있게 한다.
+ */
+public record WorkPriority(Long memberId, Role plan) {
+
+    private static final ThreadLocal<WorkPriority> CURRENT = new ThreadLocal<>();
+
+    public WorkPriority {
+        plan = plan == null ? Role.FREE_USER : plan;
+    }
+
+    public static WorkPriority of(Long memberId, Role plan) {
+        return new WorkPriority(memberId, plan);
+    }
+
+    /**
+     * 현재 스레드에 연결된 우선순위 (없으면 null)
+     */
+    public static WorkPriority current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드에 이 우선순위를 연결한다. 반환된 Scope를 닫으면 이전 값으로 되돌린다.
+     */
+    public Scope enter() {
+        WorkPriority previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * 플랜 가중치. 대기 중인 작업이 밀려 있을 때 가중치 비율만큼 더 자주 차례가 온다.
+     */
+    public int weight() {
+        return switch (plan) {
+            case FREE_USER -> 1;
+            case PLAN_30K -> 2;
+            case PLAN_50K -> 4;
+            case PLAN_100K, ADMIN -> 8;
+        };
+    }
+
+    public interface Scope extends AutoCloseable {
+        Scope NONE = () -> {
+        };
+
+        @Override
+        void close();
+    }
+}
@@ -1,24 +1,30 @@
 package com.backend.domain.generation.controller;
 
 import com.backend.domain.generation.dto.GenerateElectronicRequest;
-import com.backend.domain.generation.dto.GenerateElectronicResponse;
 import com.backend.domain.generation.async.TaskResult;
 import com.backend.domain.generation.dto.GenerateNonElectronicRequest;
-import com.backend.domain.generation.dto.GenerateNonElectronicResponse;
+import com.backend.domain.generation.service.AdmissionController;
 import com.backend.domain.generation.service.GenerationService;
+import com.backend.domain.generation.service.IdempotencyService;
 import com.backend.domain.generation.service.TaskService;
 import com.backend.global.auth.entity.MemberDetails;
+import com.backend.global.exception.BadRequestException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.HashMap;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 @Slf4j
 @RestController
@@ -26,48 +32,100 @@ import java.util.concurrent.CompletionException;
 @RequestMapping("/api/v1/generation")
 public class GenerationController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final GenerationService generationService;
     private final TaskService taskService;
+    private final IdempotencyService idempotencyService;
+    private final AdmissionController admissionController;
 
     @PostMapping("/generate-spec")
     public ResponseEntity<?> generateSpecification(
             @Valid @RequestBody GenerateElectronicRequest request,
-            @AuthenticationPrincipal MemberDetails memberDetails) {
+            @AuthenticationPrincipal MemberDetails memberDetails,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
         log.info("서비스 호출 전: {}", request);
+        IdempotencyService.Key key = idempotencyService.keyOf(
+                memberDetails.member().getMemberId(), idempotencyKey, "generate-spec", request);
         // 여러 API를 호출하고 조합하는 비동기 작업
-        CompletableFuture<GenerateElectronicResponse> future = generationService.generateSpec(
-                request,
-                memberDetails.member()
-        );
-        log.info("서비스 호출 후: {}", request);
-        // TaskService에 작업을 등록하고 클라이언트가 폴링할 수 있도록 taskId를 반환
-        String taskId = taskService.submitTask(future);
-        return ResponseEntity.accepted().body(Map.of("taskId", taskId));
+        return submitOnce(key, () -> generationService.generateSpec(request, memberDetails.member()));
     }
 
     @PostMapping("/generate-general-spec")
     public ResponseEntity<Map<String, String>> generateGeneralSpecification(
             @Valid @RequestBody GenerateNonElectronicRequest request,
-            @AuthenticationPrincipal MemberDetails memberDetails) {
+            @AuthenticationPrincipal MemberDetails memberDetails,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
 
         log.info("비전자제품 생성 요청: memberId={}, product={}", memberDetails.member().getMemberId(), request.getProductName());
 
-        // 비동기 작업 시작
-        CompletableFuture<GenerateNonElectronicResponse> future = generationService.generateGeneralSpec(
-                request,
-                memberDetails.member()
-        );
+        IdempotencyService.Key key = idempotencyService.keyOf(
+                memberDetails.member().getMemberId(), idempotencyKey, "generate-general-spec", request);
+        return submitOnce(key, () -> generationService.generateGeneralSpec(request, memberDetails.member()));
+    }
+
+    /**
+     * 같은 멱등 키로 이미 접수된 요청이면 새 작업(크레딧 차감 포함)을 시작하지 않고 기존 taskId를 반환한다.
+     * 작업을 시작하지 못하거나(과부하로 거절, 크레딧 부족 등) 작업이 실패/취소되면 선점을 풀어 재시도가 새 요청으로 처리되게 한다.
+     * 과부하 판단은 크레딧 차감 전에 이루어진다. (AdmissionController)
+     */
+    private ResponseEntity<Map<String, String>> submitOnce(
+            IdempotencyService.Key key, Supplier<CompletableFuture<?>> taskStarter) {
+        String taskId = TaskService.newTaskId();
+        String existingTaskId = idempotencyService.reserve(key, taskId);
+        if (existingTaskId != null) {
+            return ResponseEntity.accepted()
+                    .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                    .body(Map.of("taskId", existingTaskId));
+        }
 
-        // future.join() 대기 코드를 삭제하고, taskId를 즉시 반환하도록 수정
-        String taskId = taskService.submitTask(future);
+        CompletableFuture<?> future;
+        try {
+            // TaskService에 작업을 등록하고 클라이언트가 폴링할 수 있도록 taskId를 즉시 반환
+            future = admissionController.admit(taskStarter);
+            taskService.submitTask(taskId, future);
+        } catch (RuntimeException e) {
+            idempotencyService.release(key, taskId);
+            throw e;
+        }
+        // 실패/취소로 끝난 작업은 돌려줄 결과가 없으므로 선점을 풀어 재시도가 새 작업으로 처리되게 한다 (성공한 작업만 유지)
+        future.whenComplete((result, error) -> {
+            if (error != null) {
+                idempotencyService.release(key, taskId);
+            }
+        });
         return ResponseEntity.accepted().body(Map.of("taskId", taskId));
     }
 
+    /**
+     * 작업 결과 조회. wait(예: 30s, 30)를 주면 완료되거나 wait가 지날 때까지 응답을 미루는 롱 폴링으로 동작한다.
+     */
     @GetMapping("/result/{taskId}")
-    public ResponseEntity<TaskResult<?>> getResult(@PathVariable String taskId) {
-        TaskResult<?> result = taskService.getTaskResult(taskId);
-        return ResponseEntity.ok(result);
+    public DeferredResult<TaskResult<?>> getResult(
+            @PathVariable String taskId,
+            @RequestParam(required = false) String wait) {
+        return taskService.awaitTaskResult(taskId, parseWait(wait));
+    }
+
+    private static Duration parseWait(String wait) {
+        if (wait == null || wait.isBlank()) {
+            return Duration.ZERO;
+        }
+        try {
+            return DurationStyle.detectAndParse(wait, ChronoUnit.SECONDS);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("wait 형식이 올바르지 않습니다. (예: 30s, 30): " + wait);
+        }
+    }
+
+    /**
+     * 작업 결과를 SSE로 받는다. 완료되는 즉시 result 이벤트가 전송되므로 폴링이 필요 없다.
+     */
+    @GetMapping(value = "/stream/{taskId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamResult(@PathVariable String taskId) {
+        return taskService.subscribe(taskId);
     }
 
     @PostMapping("/cancel/{taskId}")
@@ -0,0 +1,19 @@
+package com.backend.domain.generation.dto;
+
+import com.backend.domain.generation.service.G2bCatalogIndex;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class G2bCatalogStatusDto {
+    private int entries;
+    private String source;
+    private LocalDateTime loadedAt;
+
+    public G2bCatalogStatusDto(G2bCatalogIndex.Snapshot snapshot) {
+        this.entries = snapshot.entries().size();
+        this.source = snapshot.source();
+        this.loadedAt = snapshot.loadedAt();
+    }
+}
@@ -0,0 +1,35 @@
+package com.backend.domain.generation.dto;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * 나라장터(G2B) 검색 결과 첫 항목에서 한 번에 추출한 상품 정보
+ */
+@RequiredArgsConstructor(staticName = "of")
+public class G2bProductInfo {
+    private static final G2bProductInfo EMPTY = new G2bProductInfo(null, null);
+
+    private final String classificationNumber; // G2B 물품분류번호 (없으면 null)
+    private final String countryOfOrigin;      // 원산지 국가명 (없으면 null)
+
+    public static G2bProductInfo empty() {
+        return EMPTY;
+    }
+
+    public Optional<String> classificationNumber() {
+        return Optional.ofNullable(classificationNumber);
+    }
+
+    public Optional<String> countryOfOrigin() {
+        return Optional.ofNullable(countryOfOrigin);
+    }
+
+    /**
+     * 분류번호/원산지 중 하나라도 찾았는지 여부
+     */
+    public boolean isFound() {
+        return classificationNumber != null || countryOfOrigin != null;
+    }
+}
@@ -19,4 +19,18 @@ public class GenerateElectronicResponse {
         this.kcCertificationNumber = certificationResponse.getKcCertificationNumber();
     }
 
+    // 캐시/공유 결과를 요청별로 가공할 수 있도록 얕은 복사본을 만든다 (필드가 모두 String이라 얕은 복사로 충분)
+    public GenerateElectronicResponse copy() {
+        GenerateElectronicResponse copied = new GenerateElectronicResponse();
+        copied.productName = this.productName;
+        copied.specification = this.specification;
+        copied.modelName = this.modelName;
+        copied.katsCertificationNumber = this.katsCertificationNumber;
+        copied.kcCertificationNumber = this.kcCertificationNumber;
+        copied.manufacturer = this.manufacturer;
+        copied.countryOfOrigin = this.countryOfOrigin;
+        copied.g2bClassificationNumber = this.g2bClassificationNumber;
+        return copied;
+    }
+
 }
@@ -0,0 +1,61 @@
+package com.backend.domain.generation.entity;
+
+import com.backend.global.domain.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모델별 G2B 스크래핑 결과 (재시작 후에도 유지되고 여러 인스턴스가 공유하는 2차 캐시)
+ * 검색 결과가 없었던 모델도 found=false로 저장해 짧은 기간 동안 재조회하지 않는다.
+ */
+@Entity
+@Table(name = "g2b_scrape_result")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class G2bScrapeResult extends BaseTimeEntity {
+
+    @Id
+    @Column(nullable = false, length = 200)
+    private String modelKey; // 정규화된 모델명
+
+    @Column(length = 50)
+    private String classificationNumber;
+
+    @Column(length = 100)
+    private String countryOfOrigin;
+
+    @Column(nullable = false)
+    private boolean found;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public G2bScrapeResult(String modelKey, String classificationNumber, String countryOfOrigin,
+                           boolean found, LocalDateTime expiresAt) {
+        this.modelKey = modelKey;
+        this.classificationNumber = classificationNumber;
+        this.countryOfOrigin = countryOfOrigin;
+        this.found = found;
+        this.expiresAt = expiresAt;
+    }
+
+    public void update(String classificationNumber, String countryOfOrigin, boolean found, LocalDateTime expiresAt) {
+        this.classificationNumber = classificationNumber;
+        this.countryOfOrigin = countryOfOrigin;
+        this.found = found;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !now.isBefore(expiresAt);
+    }
+}
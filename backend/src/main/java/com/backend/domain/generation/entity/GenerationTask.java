@@ -0,0 +1,92 @@
+package com.backend.domain.generation.entity;
+
+import com.backend.domain.generation.async.CompletedTask;
+import com.backend.domain.generation.async.TaskStatus;
+import com.backend.global.domain.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 생성 작업 상태/결과 (여러 인스턴스가 공유하는 작업 저장소)
+ * 진행 중에는 RUNNING만 기록하고, 완료되면 직렬화된 결과 JSON(필요 시 gzip)을 함께 저장한다.
+ */
+@Entity
+@Table(name = "generation_task")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GenerationTask extends BaseTimeEntity {
+
+    @Id
+    @Column(nullable = false, length = 36)
+    private String taskId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TaskStatus status;
+
+    @Lob
+    @Column(length = 16 * 1024 * 1024)
+    private byte[] resultJson;
+
+    @Column(nullable = false)
+    private boolean compressed;
+
+    @Column(length = 1000)
+    private String error;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private GenerationTask(String taskId, TaskStatus status, byte[] resultJson, boolean compressed, String error,
+                           LocalDateTime expiresAt) {
+        this.taskId = taskId;
+        this.status = status;
+        this.resultJson = resultJson;
+        this.compressed = compressed;
+        this.error = error;
+        this.expiresAt = expiresAt;
+    }
+
+    public static GenerationTask running(String taskId, LocalDateTime expiresAt) {
+        return new GenerationTask(taskId, TaskStatus.RUNNING, null, false, null, expiresAt);
+    }
+
+    public static GenerationTask completed(String taskId, CompletedTask completed, LocalDateTime expiresAt) {
+        return new GenerationTask(taskId, completed.status(), completed.resultJson(), completed.compressed(),
+                truncate(completed.error()), expiresAt);
+    }
+
+    public void complete(CompletedTask completed, LocalDateTime expiresAt) {
+        this.status = completed.status();
+        this.resultJson = completed.resultJson();
+        this.compressed = completed.compressed();
+        this.error = truncate(completed.error());
+        this.expiresAt = expiresAt;
+    }
+
+    public CompletedTask toCompletedTask() {
+        return new CompletedTask(status, resultJson, compressed, error);
+    }
+
+    public boolean isRunning() {
+        return status == TaskStatus.RUNNING;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    private static String truncate(String error) {
+        return (error == null || error.length() <= 1000) ? error : error.substring(0, 1000);
+    }
+}
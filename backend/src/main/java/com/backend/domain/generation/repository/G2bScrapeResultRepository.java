@@ -0,0 +1,7 @@
+package com.backend.domain.generation.repository;
+
+import com.backend.domain.generation.entity.G2bScrapeResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface G2bScrapeResultRepository extends JpaRepository<G2bScrapeResult, String> {
+}
@@ -0,0 +1,18 @@
+package com.backend.domain.generation.repository;
+
+import com.backend.domain.generation.entity.GenerationTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface GenerationTaskRepository extends JpaRepository<GenerationTask, String> {
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from GenerationTask t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
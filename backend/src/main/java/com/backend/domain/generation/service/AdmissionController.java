@@ -0,0 +1,169 @@
+package com.backend.domain.generation.service;
+
+import com.backend.domain.generation.async.FairPriorityExecutor;
+import com.backend.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 생성 요청 수락 제어
+ * 실행 풀이 가득 차서 작업이 거절(크레딧 차감 후 500)되기 전에, 진행 중인 생성 수와 실행 풀 대기열 상태를 보고
+ * 크레딧 차감 전에 429 + Retry-After로 미리 거절한다.
+ * - 진행 중인 생성 수가 generation.task.in-flight.max 이상이면 거절
+ * - 실행 풀 대기열 사용률이 generation.admission.max-queue-utilization 이상이면 거절
+ *   (생성 1건이 여러 비동기 단계를 대기열에 넣으므로 대기열이 가득 차기 전에 여유를 둔다)
+ * Retry-After는 최근 생성 소요 시간(지수 이동 평균)과 초과분으로 계산한다.
+ * (동시 요청 사이에서는 한도를 약간 넘을 수 있는 느슨한 제한)
+ */
+@Slf4j
+@Component
+public class AdmissionController {
+
+    private static final double DURATION_EWMA_ALPHA = 0.2;
+    private static final Duration MIN_RETRY_AFTER = Duration.ofSeconds(1);
+    private static final Duration MAX_RETRY_AFTER = Duration.ofSeconds(60);
+
+    private final Executor taskExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${generation.task.in-flight.max:1000}")
+    private int maxInFlight = 1000;
+
+    @Value("${generation.admission.max-queue-utilization:0.8}")
+    private double maxQueueUtilization = 0.8;
+
+    // 생성 소요 시간 표본이 없을 때 쓰는 기본값
+    @Value("${generation.admission.initial-duration:10s}")
+    private Duration initialDuration = Duration.ofSeconds(10);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double avgDurationNanos = -1;
+
+    public AdmissionController(@Qualifier("taskExecutor") Executor taskExecutor, MeterRegistry meterRegistry) {
+        this.taskExecutor = taskExecutor;
+        this.meterRegistry = meterRegistry;
+        // 진행 중인 생성 수는 이 카운터 하나로 관리한다 (수락 판단과 지표가 같은 값을 본다)
+        Gauge.builder("generation.task.in-flight", inFlight, AtomicInteger::get)
+                .description("수락되어 진행 중인 생성 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 수용 가능하면 작업을 시작하고, 아니면 작업(크레딧 차감 포함)을 시작하지 않고 429로 거절한다.
+     * 작업 시작 중 실행 풀이 거절한 경우도 429로 바꾼다. (크레딧 환불은 작업 쪽에서 처리)
+     */
+    public <F extends CompletableFuture<?>> F admit(Supplier<F> taskStarter) {
+        checkCapacity();
+
+        inFlight.incrementAndGet();
+        long startNanos = System.nanoTime();
+        F future;
+        try {
+            future = taskStarter.get();
+        } catch (RejectedExecutionException e) {
+            inFlight.decrementAndGet();
+            throw reject("executor", retryAfter(1, poolSize()));
+        } catch (TooManyRequestsException e) {
+            // 작업 쪽에서 실행 풀 거절을 429로 바꿔 던진 경우
+            inFlight.decrementAndGet();
+            meterRegistry.counter("generation.admission.rejected", "reason", "executor").increment();
+            throw e;
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            throw e;
+        }
+
+        future.whenComplete((result, error) -> {
+            inFlight.decrementAndGet();
+            recordDuration(System.nanoTime() - startNanos);
+        });
+        return future;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void checkCapacity() {
+        int current = inFlight.get();
+        if (current >= maxInFlight) {
+            throw reject("in_flight", retryAfter(current - maxInFlight + 1, current));
+        }
+
+        int queued = queuedTasks();
+        int capacity = queueCapacity(queued);
+        if (capacity > 0) {
+            int limit = Math.max(1, (int) Math.floor(capacity * maxQueueUtilization));
+            if (queued >= limit) {
+                throw reject("queue", retryAfter(queued - limit + 1, poolSize()));
+            }
+        }
+    }
+
+    /**
+     * 초과분(overload)이 빠질 때까지의 예상 시간: 평균 소요 시간 동안 concurrency개가 끝난다고 본다.
+     */
+    Duration retryAfter(int overload, int concurrency) {
+        double avg = avgDurationNanos > 0 ? avgDurationNanos : initialDuration.toNanos();
+        long nanos = (long) (avg * overload / Math.max(1, concurrency));
+        Duration estimate = Duration.ofNanos(nanos);
+        if (estimate.compareTo(MIN_RETRY_AFTER) < 0) {
+            return MIN_RETRY_AFTER;
+        }
+        return estimate.compareTo(MAX_RETRY_AFTER) > 0 ? MAX_RETRY_AFTER : estimate;
+    }
+
+    private TooManyRequestsException reject(String reason, Duration retryAfter) {
+        meterRegistry.counter("generation.admission.rejected", "reason", reason).increment();
+        log.warn("생성 요청 거절(과부하): reason={}, inFlight={}, retryAfter={}s", reason, inFlight.get(), retryAfter.toSeconds());
+        return new TooManyRequestsException("현재 처리 중인 생성 작업이 많습니다. 잠시 후 다시 시도해주세요.", retryAfter);
+    }
+
+    private void recordDuration(long nanos) {
+        double previous = avgDurationNanos;
+        avgDurationNanos = previous < 0 ? nanos : previous + DURATION_EWMA_ALPHA * (nanos - previous);
+    }
+
+    private int queuedTasks() {
+        if (taskExecutor instanceof FairPriorityExecutor fair) {
+            return fair.getQueueSize();
+        }
+        if (taskExecutor instanceof ThreadPoolTaskExecutor pool) {
+            return pool.getThreadPoolExecutor().getQueue().size();
+        }
+        return 0;
+    }
+
+    // 대기열 크기를 알 수 없는 실행기면 0
+    private int queueCapacity(int queued) {
+        if (taskExecutor instanceof FairPriorityExecutor fair) {
+            return fair.getQueueCapacity();
+        }
+        if (taskExecutor instanceof ThreadPoolTaskExecutor pool) {
+            return queued + pool.getThreadPoolExecutor().getQueue().remainingCapacity();
+        }
+        return 0;
+    }
+
+    private int poolSize() {
+        if (taskExecutor instanceof FairPriorityExecutor fair) {
+            return fair.getPoolSize();
+        }
+        if (taskExecutor instanceof ThreadPoolTaskExecutor pool) {
+            return pool.getMaxPoolSize();
+        }
+        return 1;
+    }
+}
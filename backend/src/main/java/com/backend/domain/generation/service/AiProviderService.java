@@ -3,6 +3,7 @@ package com.backend.domain.generation.service;
 import com.backend.domain.generation.dto.CertificationResponse;
 import com.backend.domain.generation.dto.GenerateElectronicResponse;
 import com.backend.domain.generation.dto.GenerateNonElectronicResponse;
+import com.backend.domain.member.entity.Role;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -10,4 +11,42 @@ public interface AiProviderService {
     CompletableFuture<GenerateElectronicResponse> fetchMainSpec(String model, String specExample, String productNameExample);
     CompletableFuture<CertificationResponse> fetchCertification(String model);
     CompletableFuture<GenerateNonElectronicResponse> fetchGeneralSpec(String productName, String specExample);
+
+    // 요청자의 플랜에 따라 호출 방식(예: 여러 제공자 동시 호출)이 달라질 수 있는 경우 사용
+    default CompletableFuture<GenerateElectronicResponse> fetchMainSpec(
+            String model,
+            String specExample,
+            String productNameExample,
+            Role plan
+    ) {
+        return fetchMainSpec(model, specExample, productNameExample);
+    }
+
+    default CompletableFuture<CertificationResponse> fetchCertification(String model, Role plan) {
+        return fetchCertification(model);
+    }
+
+    default CompletableFuture<GenerateNonElectronicResponse> fetchGeneralSpec(
+            String productName,
+            String specExample,
+            Role plan
+    ) {
+        return fetchGeneralSpec(productName, specExample);
+    }
+
+    // 메인 정보와 인증번호를 한 번의 호출로 생성 (통합 프롬프트를 지원하지 않는 구현은 두 호출 결과를 합친다)
+    default CompletableFuture<GenerateElectronicResponse> fetchMainSpecWithCertification(
+            String model,
+            String specExample,
+            String productNameExample,
+            Role plan
+    ) {
+        CompletableFuture<CertificationResponse> certFuture = fetchCertification(model, plan)
+                .exceptionally(throwable -> new CertificationResponse());
+        return fetchMainSpec(model, specExample, productNameExample, plan)
+                .thenCombine(certFuture, (mainSpec, cert) -> {
+                    mainSpec.setCertificationNumber(cert);
+                    return mainSpec;
+                });
+    }
 }
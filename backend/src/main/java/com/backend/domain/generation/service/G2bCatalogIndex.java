@@ -0,0 +1,216 @@
+package com.backend.domain.generation.service;
+
+import com.backend.domain.generation.dto.G2bProductInfo;
+import com.backend.global.util.CountryCode;
+import com.backend.global.util.ModelNameNormalizer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * G2B 상품 카탈로그(CSV 내보내기) 기반 오프라인 조회 인덱스
+ * 정규화된 모델명 → (분류번호, 원산지) 해시 인덱스를 메모리에 두고, 스크래핑 전에 먼저 조회한다.
+ * 재적재는 새 인덱스를 모두 만든 뒤 참조만 교체하므로, 적재 중에도 기존 인덱스로 계속 응답한다.
+ */
+@Slf4j
+@Component
+public class G2bCatalogIndex {
+
+    @Value("${scraping.g2b.catalog.path:}")
+    private String catalogPath = "";
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public record Snapshot(Map<String, G2bProductInfo> entries, String source, LocalDateTime loadedAt) {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), null, null);
+    }
+
+    @PostConstruct
+    void init() {
+        if (catalogPath == null || catalogPath.isBlank()) {
+            log.info("G2B 카탈로그 경로가 설정되지 않아 오프라인 인덱스를 사용하지 않습니다.");
+            return;
+        }
+        try {
+            reload();
+        } catch (IOException e) {
+            log.error("G2B 카탈로그 초기 적재 실패, 스크래핑으로만 조회합니다: path={}", catalogPath, e);
+        }
+    }
+
+    public Optional<G2bProductInfo> find(String modelKey) {
+        return Optional.ofNullable(snapshot.entries().get(modelKey));
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 설정된 경로의 카탈로그를 다시 읽어 인덱스를 교체한다.
+     * 읽기에 실패하면 기존 인덱스를 그대로 유지한다.
+     */
+    public synchronized Snapshot reload() throws IOException {
+        if (catalogPath == null || catalogPath.isBlank()) {
+            throw new IllegalStateException("scraping.g2b.catalog.path가 설정되지 않았습니다.");
+        }
+        Path path = Path.of(catalogPath);
+        long startNanos = System.nanoTime();
+
+        Map<String, G2bProductInfo> entries;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            entries = load(reader);
+        }
+
+        snapshot = new Snapshot(Map.copyOf(entries), path.toString(), LocalDateTime.now());
+        log.info("G2B 카탈로그 적재 완료: path={}, entries={}, elapsedMs={}",
+                path, entries.size(), (System.nanoTime() - startNanos) / 1_000_000L);
+        return snapshot;
+    }
+
+    static Map<String, G2bProductInfo> load(BufferedReader reader) throws IOException {
+        Map<String, G2bProductInfo> entries = new HashMap<>();
+        // 원산지는 값 종류가 적으므로 같은 문자열 인스턴스를 공유해 메모리를 줄인다
+        Map<String, String> countryNames = new HashMap<>();
+        Columns columns = null;
+        String line;
+        int skipped = 0;
+
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = parseCsvLine(stripBom(line));
+            if (columns == null) {
+                columns = Columns.fromHeader(fields);
+                if (columns.isHeader()) {
+                    continue;
+                }
+            }
+
+            String modelKey = ModelNameNormalizer.normalize(columns.get(fields, columns.model()));
+            if (modelKey.isEmpty()) {
+                skipped++;
+                continue;
+            }
+            String classificationNumber = toClassificationNumber(columns.get(fields, columns.classification()));
+            String countryOfOrigin = toCountryName(columns.get(fields, columns.origin()));
+            if (countryOfOrigin != null) {
+                countryOfOrigin = countryNames.computeIfAbsent(countryOfOrigin, name -> name);
+            }
+
+            // 같은 모델이 여러 번 나오면 먼저 나온 행을 사용한다 (스크래핑의 첫 검색 결과 기준과 동일)
+            entries.putIfAbsent(modelKey, G2bProductInfo.of(classificationNumber, countryOfOrigin));
+        }
+
+        if (skipped > 0) {
+            log.warn("G2B 카탈로그에서 모델명이 없는 행을 건너뛰었습니다: skipped={}", skipped);
+        }
+        return entries;
+    }
+
+    /**
+     * "40101701-23642147" 형식이면 스크래핑 결과와 같이 뒤쪽 식별번호만 사용한다.
+     */
+    private static String toClassificationNumber(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        int separator = trimmed.lastIndexOf('-');
+        return separator >= 0 ? trimmed.substring(separator + 1) : trimmed;
+    }
+
+    /**
+     * 두 글자 국가코드면 국가명으로 변환하고, 그 외에는 적힌 값을 그대로 쓴다.
+     */
+    private static String toCountryName(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (trimmed.length() == 2) {
+            return CountryCode.fromCode(trimmed.toUpperCase(Locale.ROOT))
+                    .map(CountryCode::getCountryName)
+                    .orElse(trimmed);
+        }
+        return trimmed;
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (quoted) {
+                if (ch == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (ch == '"') {
+                    quoted = false;
+                } else {
+                    current.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(ch);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    /**
+     * 헤더 이름으로 열 위치를 찾는다. 헤더가 없으면 (분류번호, 모델명, 원산지) 순서로 본다.
+     */
+    private record Columns(int classification, int model, int origin, boolean isHeader) {
+
+        static Columns fromHeader(List<String> header) {
+            int classification = -1;
+            int model = -1;
+            int origin = -1;
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i).trim().toLowerCase(Locale.ROOT);
+                if (classification < 0 && (name.contains("분류") || name.contains("식별") || name.contains("classification"))) {
+                    classification = i;
+                } else if (model < 0 && (name.contains("모델") || name.contains("model"))) {
+                    model = i;
+                } else if (origin < 0 && (name.contains("원산지") || name.contains("origin"))) {
+                    origin = i;
+                }
+            }
+            if (model < 0) {
+                return new Columns(0, 1, 2, false);
+            }
+            return new Columns(classification, model, origin, true);
+        }
+
+        String get(List<String> fields, int index) {
+            return index >= 0 && index < fields.size() ? fields.get(index) : null;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.backend.domain.generation.service;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * G2B 통합검색 결과 페이지를 앞에서부터 조금씩 읽다가, 결과 목록(ul.bb_d7dbe4)의 첫 번째 li가 닫히는 즉시 멈추는 리더
+ * 첫 항목만 사용하므로 페이지 전체를 받아 DOM을 만들 필요가 없다.
+ * - 목록을 찾기 전까지는 마지막 태그 시작 위치 이후만 남기고 버려, 버퍼가 페이지 크기만큼 커지지 않는다.
+ * - 청크 경계에서 잘린 멀티바이트 문자는 다음 청크와 이어서 디코딩한다.
+ * 한 번의 응답에만 사용하며 스레드 안전하지 않다. (응답 스트림은 순차적으로 전달된다)
+ */
+class G2bFirstResultReader {
+    private static final String LIST_CLASS = "bb_d7dbe4";
+    private static final ByteBuffer NO_BYTES = ByteBuffer.allocate(0);
+
+    private enum State {
+        FIND_LIST, FIND_ITEM, IN_ITEM, DONE
+    }
+
+    private final CharsetDecoder decoder;
+    private final StringBuilder buffer = new StringBuilder();
+    private ByteBuffer pendingBytes = NO_BYTES;
+    private State state = State.FIND_LIST;
+    private int scanFrom = 0;
+    private int itemStart = -1;
+    private int depth = 0;
+    private String firstItemHtml;
+    private long bytesRead = 0;
+
+    G2bFirstResultReader(Charset charset) {
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * 응답 청크를 이어 붙인다.
+     *
+     * @return 첫 항목을 다 읽었거나 목록이 비어 있음을 확인해 더 읽을 필요가 없으면 true
+     */
+    boolean feed(ByteBuffer bytes) {
+        if (state == State.DONE) {
+            return true;
+        }
+        bytesRead += bytes.remaining();
+
+        ByteBuffer input = bytes;
+        if (pendingBytes.hasRemaining()) {
+            input = ByteBuffer.allocate(pendingBytes.remaining() + bytes.remaining());
+            input.put(pendingBytes).put(bytes).flip();
+        }
+        CharBuffer chars = CharBuffer.allocate((int) Math.ceil(input.remaining() * decoder.maxCharsPerByte()) + 1);
+        decoder.decode(input, chars, false);
+        chars.flip();
+        pendingBytes = input.hasRemaining() ? copyOf(input) : NO_BYTES;
+
+        return feed(chars);
+    }
+
+    boolean feed(CharSequence chunk) {
+        if (state == State.DONE) {
+            return true;
+        }
+        buffer.append(chunk);
+
+        if (state == State.FIND_LIST) {
+            findList();
+        }
+        if (state == State.FIND_ITEM) {
+            findItem();
+        }
+        if (state == State.IN_ITEM) {
+            scanItem();
+        }
+        return state == State.DONE;
+    }
+
+    /**
+     * 첫 번째 결과 항목을 감싼 HTML 조각. 목록이 비었거나 끝까지 찾지 못했으면 null
+     * 기존 선택자(ul.bb_d7dbe4 > li:first-child)를 그대로 쓸 수 있도록 목록 태그로 감싸서 반환한다.
+     */
+    String firstItemHtml() {
+        return firstItemHtml == null ? null : "<ul class=\"" + LIST_CLASS + "\">" + firstItemHtml + "</ul>";
+    }
+
+    long getBytesRead() {
+        return bytesRead;
+    }
+
+    boolean isDone() {
+        return state == State.DONE;
+    }
+
+    private void findList() {
+        while (true) {
+            int classIndex = buffer.indexOf(LIST_CLASS, scanFrom);
+            if (classIndex < 0) {
+                discardScannedPrefix();
+                return;
+            }
+            // class 값이 <ul ...> 여는 태그 안에 있는지 확인 (다른 태그의 같은 클래스는 건너뜀)
+            int tagStart = buffer.lastIndexOf("<", classIndex);
+            int previousTagEnd = tagStart < 0 ? -1 : buffer.indexOf(">", tagStart);
+            boolean inUlTag = tagStart >= 0 && startsWithTag(tagStart, "<ul")
+                    && (previousTagEnd < 0 || previousTagEnd > classIndex);
+            if (!inUlTag) {
+                scanFrom = classIndex + LIST_CLASS.length();
+                continue;
+            }
+            int tagEnd = buffer.indexOf(">", classIndex);
+            if (tagEnd < 0) {
+                // 여는 태그가 아직 다 도착하지 않음
+                scanFrom = classIndex;
+                return;
+            }
+            scanFrom = tagEnd + 1;
+            state = State.FIND_ITEM;
+            return;
+        }
+    }
+
+    private void findItem() {
+        int itemIndex = indexOfTag("<li", scanFrom);
+        int listEndIndex = buffer.indexOf("</ul", scanFrom);
+        if (listEndIndex >= 0 && (itemIndex < 0 || listEndIndex < itemIndex)) {
+            // 결과 목록이 비어 있음
+            state = State.DONE;
+            return;
+        }
+        if (itemIndex < 0) {
+            return;
+        }
+        itemStart = itemIndex;
+        scanFrom = itemIndex;
+        depth = 0;
+        state = State.IN_ITEM;
+    }
+
+    private void scanItem() {
+        while (true) {
+            int tagIndex = buffer.indexOf("<", scanFrom);
+            // 태그 이름을 판단할 수 있을 만큼 도착하지 않았으면 다음 청크를 기다린다
+            if (tagIndex < 0 || tagIndex + "</li".length() >= buffer.length()) {
+                scanFrom = tagIndex < 0 ? buffer.length() : tagIndex;
+                return;
+            }
+            if (startsWithTag(tagIndex, "<li")) {
+                depth++;
+            } else if (startsWithTag(tagIndex, "</li")) {
+                depth--;
+                if (depth == 0) {
+                    int tagEnd = buffer.indexOf(">", tagIndex);
+                    if (tagEnd < 0) {
+                        scanFrom = tagIndex;
+                        depth++;
+                        return;
+                    }
+                    firstItemHtml = buffer.substring(itemStart, tagEnd + 1);
+                    state = State.DONE;
+                    return;
+                }
+            }
+            scanFrom = tagIndex + 1;
+        }
+    }
+
+    /**
+     * 목록을 찾기 전에는 마지막 '<' 이후(잘렸을 수 있는 태그)만 남기고 버린다.
+     */
+    private void discardScannedPrefix() {
+        int keepFrom = buffer.lastIndexOf("<");
+        if (keepFrom < 0) {
+            buffer.setLength(0);
+        } else if (keepFrom > 0) {
+            buffer.delete(0, keepFrom);
+        }
+        scanFrom = 0;
+    }
+
+    private int indexOfTag(String tag, int from) {
+        int index = buffer.indexOf(tag, from);
+        while (index >= 0 && !startsWithTag(index, tag)) {
+            index = buffer.indexOf(tag, index + 1);
+        }
+        return index;
+    }
+
+    /**
+     * index 위치가 정확히 해당 태그로 시작하는지 확인한다. ("<li"가 "<link"에 잘못 걸리지 않도록 다음 문자를 본다)
+     */
+    private boolean startsWithTag(int index, String tag) {
+        int next = index + tag.length();
+        if (next > buffer.length() || !buffer.substring(index, next).equalsIgnoreCase(tag)) {
+            return false;
+        }
+        if (next == buffer.length()) {
+            return false;
+        }
+        char ch = buffer.charAt(next);
+        return ch == '>' || ch == '/' || Character.isWhitespace(ch);
+    }
+
+    private static ByteBuffer copyOf(ByteBuffer remaining) {
+        ByteBuffer copy = ByteBuffer.allocate(remaining.remaining());
+        copy.put(remaining).flip();
+        return copy;
+    }
+}
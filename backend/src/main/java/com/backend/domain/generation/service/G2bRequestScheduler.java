@@ -0,0 +1,106 @@
+package com.backend.domain.generation.service;
+
+import com.backend.global.exception.GenerateApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 나라장터(G2B) 요청 전체에 적용하는 공용 요청 간격 스케줄러 (토큰 버킷)
+ * - 한가할 때는 버킷에 남은 토큰으로 즉시 요청한다.
+ * - 요청이 몰리면 초당 요청 수에 맞춰 순서대로 슬롯을 배정하고, 대기하는 요청에만 지터를 더해 간격을 흩뜨린다.
+ * - 배정된 대기 시간이 상한을 넘으면 기다리지 않고 거절한다.
+ * 대기는 Mono.delay로 처리하므로 스레드를 점유하지 않는다.
+ */
+@Slf4j
+@Component
+public class G2bRequestScheduler {
+
+    @Value("${scraping.g2b.rate.requests-per-second:1.0}")
+    private double requestsPerSecond = 1.0;
+
+    @Value("${scraping.g2b.rate.burst:2}")
+    private int burst = 2;
+
+    // 대기 요청에 더하는 지터 (요청 간격 대비 비율)
+    @Value("${scraping.g2b.rate.jitter-ratio:0.3}")
+    private double jitterRatio = 0.3;
+
+    @Value("${scraping.g2b.rate.max-queue-wait:30s}")
+    private Duration maxQueueWait = Duration.ofSeconds(30);
+
+    // 요청마다 등록/조회하지 않도록 생성 시점에 한 번만 만들어 둔다
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    private final LongSupplier nanoClock;
+
+    // 다음 요청에 배정할 수 있는 가장 이른 시각 (가상 시각)
+    private long nextSlotNanos = Long.MIN_VALUE;
+
+    @Autowired
+    public G2bRequestScheduler(MeterRegistry meterRegistry) {
+        this(meterRegistry, System::nanoTime);
+    }
+
+    G2bRequestScheduler(MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.queueWaitTimer = Timer.builder("scraping.g2b.queue.wait")
+                .description("G2B 요청이 요청 간격 스케줄러에서 대기한 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("scraping.g2b.queue.rejected")
+                .description("대기 상한 초과로 거절된 G2B 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 슬롯을 배정받고 해당 시각까지 기다린 뒤 완료되는 Mono
+     * 대기 상한을 넘으면 {@link GenerateApiException}으로 실패한다.
+     */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long waitNanos = reserve();
+            if (waitNanos < 0) {
+                rejectedCounter.increment();
+                return Mono.error(new GenerateApiException("G2B 요청 대기열이 가득 찼습니다."));
+            }
+            queueWaitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+            return waitNanos == 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(waitNanos)).then();
+        });
+    }
+
+    /**
+     * 슬롯을 하나 예약하고 기다려야 할 시간을 반환한다.
+     *
+     * @return 대기 시간(ns), 대기 상한을 넘으면 -1 (이 경우 슬롯을 소비하지 않음)
+     */
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+        // 한가했던 시간만큼 토큰이 쌓이되 버킷 크기를 넘지 않는다
+        long earliest = Math.max(nextSlotNanos, now - (Math.max(1, burst) - 1L) * intervalNanos);
+        long waitNanos = Math.max(0L, earliest - now);
+
+        if (waitNanos > 0 && jitterRatio > 0) {
+            waitNanos += ThreadLocalRandom.current().nextLong((long) (intervalNanos * jitterRatio) + 1);
+        }
+        if (waitNanos > maxQueueWait.toNanos()) {
+            log.warn("G2B 요청 대기 상한 초과로 거절: waitMs={}, maxQueueWaitMs={}",
+                    TimeUnit.NANOSECONDS.toMillis(waitNanos), maxQueueWait.toMillis());
+            return -1L;
+        }
+
+        nextSlotNanos = earliest + intervalNanos;
+        return waitNanos;
+    }
+}
@@ -0,0 +1,129 @@
+package com.backend.domain.generation.service;
+
+import com.backend.domain.generation.dto.G2bProductInfo;
+import com.backend.domain.generation.entity.G2bScrapeResult;
+import com.backend.domain.generation.repository.G2bScrapeResultRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * G2B 스크래핑 결과 2단 캐시
+ * - L1: 인스턴스 내 Caffeine 캐시
+ * - L2: DB 테이블(g2b_scrape_result). 재시작 후에도 유지되고 여러 인스턴스가 공유한다.
+ * 분류번호/원산지는 거의 바뀌지 않으므로 찾은 결과는 길게, 찾지 못한 결과는 짧게 보관한다.
+ * 오류로 끝난 조회는 호출부에서 저장하지 않는다.
+ */
+@Slf4j
+@Component
+public class G2bScrapeCache {
+
+    private final Cache<String, Entry> l1Cache;
+    private final G2bScrapeResultRepository repository;
+    private final Clock clock;
+
+    @Value("${scraping.g2b.cache.found-ttl:30d}")
+    private Duration foundTtl = Duration.ofDays(30);
+
+    @Value("${scraping.g2b.cache.not-found-ttl:1d}")
+    private Duration notFoundTtl = Duration.ofDays(1);
+
+    @Autowired
+    public G2bScrapeCache(
+            @Qualifier("g2bScrapeL1Cache") Cache<String, Entry> l1Cache,
+            G2bScrapeResultRepository repository
+    ) {
+        this(l1Cache, repository, Clock.systemDefaultZone());
+    }
+
+    G2bScrapeCache(Cache<String, Entry> l1Cache, G2bScrapeResultRepository repository, Clock clock) {
+        this.l1Cache = l1Cache;
+        this.repository = repository;
+        this.clock = clock;
+    }
+
+    /**
+     * L1 캐시 항목 (만료 시각까지 함께 보관해 L2에서 올라온 항목도 원래 만료 시각을 따르도록 한다)
+     * remainingNanos: 넣는 시점의 남은 보관 시간. 캐시 설정(Expiry)이 그대로 쓰므로 주입된 clock 기준으로 미리 계산해 둔다.
+     */
+    public record Entry(G2bProductInfo info, LocalDateTime expiresAt, long remainingNanos) {
+        static Entry of(G2bProductInfo info, LocalDateTime expiresAt, Clock clock) {
+            long remainingNanos = Math.max(0L, Duration.between(LocalDateTime.now(clock), expiresAt).toNanos());
+            return new Entry(info, expiresAt, remainingNanos);
+        }
+    }
+
+    /**
+     * L1 → L2 순서로 조회한다. 없거나 만료되었으면 빈 Mono를 반환한다.
+     * L2 조회(JPA)는 블로킹이므로 boundedElastic 스케줄러에서 수행한다.
+     */
+    public Mono<G2bProductInfo> get(String modelKey) {
+        Entry cached = l1Cache.getIfPresent(modelKey);
+        if (cached != null && LocalDateTime.now(clock).isBefore(cached.expiresAt())) {
+            log.info("G2B 스크래핑 캐시 적중(L1): modelKey={}, found={}", modelKey, cached.info().isFound());
+            return Mono.just(cached.info());
+        }
+
+        return Mono.fromCallable(() -> repository.findById(modelKey))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty)
+                .filter(result -> !result.isExpired(LocalDateTime.now(clock)))
+                .map(result -> {
+                    G2bProductInfo info = G2bProductInfo.of(result.getClassificationNumber(), result.getCountryOfOrigin());
+                    l1Cache.put(modelKey, Entry.of(info, result.getExpiresAt(), clock));
+                    log.info("G2B 스크래핑 캐시 적중(L2): modelKey={}, found={}", modelKey, result.isFound());
+                    return info;
+                })
+                .onErrorResume(e -> {
+                    log.warn("G2B 스크래핑 캐시(L2) 조회 실패, 스크래핑으로 진행: modelKey={}, error={}", modelKey, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 스크래핑 결과를 L1에 바로 저장하고, L2 저장 Mono를 반환한다.
+     * L2 저장(JPA)은 반환된 Mono를 구독할 때 boundedElastic 스케줄러에서 수행하며, 실패는 로그만 남기고 무시한다.
+     */
+    public Mono<Void> put(String modelKey, G2bProductInfo info) {
+        LocalDateTime expiresAt = LocalDateTime.now(clock).plus(info.isFound() ? foundTtl : notFoundTtl);
+        l1Cache.put(modelKey, Entry.of(info, expiresAt, clock));
+
+        return Mono.fromRunnable(() -> save(modelKey, info, expiresAt))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("G2B 스크래핑 캐시(L2) 저장 실패: modelKey={}, error={}", modelKey, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void save(String modelKey, G2bProductInfo info, LocalDateTime expiresAt) {
+        try {
+            upsert(modelKey, info, expiresAt);
+        } catch (DataIntegrityViolationException e) {
+            // 조회와 저장 사이에 다른 인스턴스가 같은 모델을 먼저 insert한 경우: 다시 조회해 update로 재시도
+            log.debug("G2B 스크래핑 캐시(L2) insert 충돌, update로 재시도: modelKey={}", modelKey);
+            upsert(modelKey, info, expiresAt);
+        }
+    }
+
+    private void upsert(String modelKey, G2bProductInfo info, LocalDateTime expiresAt) {
+        String classificationNumber = info.classificationNumber().orElse(null);
+        String countryOfOrigin = info.countryOfOrigin().orElse(null);
+
+        G2bScrapeResult result = repository.findById(modelKey)
+                .orElseGet(() -> G2bScrapeResult.builder().modelKey(modelKey).build());
+        result.update(classificationNumber, countryOfOrigin, info.isFound(), expiresAt);
+        repository.save(result);
+    }
+}
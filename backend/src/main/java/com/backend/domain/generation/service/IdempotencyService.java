@@ -0,0 +1,108 @@
+package com.backend.domain.generation.service;
+
+import com.backend.global.exception.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * 생성 요청 중복 제출 방지
+ * 네트워크가 불안정한 클라이언트가 같은 요청을 다시 보내면 크레딧 차감/작업 시작 없이 처음 발급한 taskId를 돌려준다.
+ * - Idempotency-Key 헤더가 있으면 (회원, 키)로 식별하고 key-ttl 동안 유지한다.
+ * - 없으면 (회원, 요청 종류, 요청 내용 해시)로 식별하고 짧은 derived-window 동안만 유지한다. (0이면 사용하지 않음)
+ * 키 선점은 캐시 맵의 putIfAbsent 한 번으로 처리한다. (별도 락 없음)
+ */
+@Slf4j
+@Component
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 200;
+
+    private final Cache<String, String> idempotencyCache;
+    private final Policy.VarExpiration<String, String> expiration;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${generation.idempotency.key-ttl:1h}")
+    private Duration keyTtl = Duration.ofHours(1);
+
+    @Value("${generation.idempotency.derived-window:30s}")
+    private Duration derivedWindow = Duration.ofSeconds(30);
+
+    public IdempotencyService(
+            Cache<String, String> idempotencyCache,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.idempotencyCache = idempotencyCache;
+        this.expiration = idempotencyCache.policy().expireVariably()
+                .orElseThrow(() -> new IllegalStateException("idempotencyCache는 항목별 만료 시간을 지원해야 합니다."));
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 중복 판별 키. 헤더 키가 없고 요청 내용 기반 중복 제거도 꺼져 있으면 null
+     */
+    public Key keyOf(Long memberId, String idempotencyKey, String operation, Object payload) {
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+                throw new BadRequestException("Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+            }
+            return new Key(memberId + ":key:" + operation + ":" + idempotencyKey.strip(), keyTtl);
+        }
+        if (derivedWindow.isZero() || derivedWindow.isNegative()) {
+            return null;
+        }
+        return new Key(memberId + ":payload:" + operation + ":" + hash(payload), derivedWindow);
+    }
+
+    /**
+     * 키를 taskId로 선점한다. 이미 접수된 요청이면 기존 taskId를, 새 요청이면 null을 반환한다.
+     */
+    public String reserve(Key key, String taskId) {
+        if (key == null) {
+            return null;
+        }
+        String existing = expiration.putIfAbsent(key.value(), taskId, key.ttl());
+        if (existing != null) {
+            meterRegistry.counter("generation.idempotency.replayed").increment();
+            log.info("중복 생성 요청, 기존 작업 반환: key={}, taskId={}", key.value(), existing);
+        }
+        return existing;
+    }
+
+    /**
+     * 작업을 시작하지 못했으면 선점을 풀어 재시도가 새 작업으로 처리되도록 한다.
+     */
+    public void release(Key key, String taskId) {
+        if (key != null) {
+            idempotencyCache.asMap().remove(key.value(), taskId);
+        }
+    }
+
+    private String hash(Object payload) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(payload)));
+        } catch (JsonProcessingException e) {
+            // 직렬화할 수 없는 요청은 문자열 표현으로 식별한다
+            return Integer.toHexString(String.valueOf(payload).hashCode());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Key(String value, Duration ttl) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.backend.domain.generation.service;
+
+import com.backend.domain.generation.async.CompletedTask;
+import com.backend.domain.generation.async.TaskEntry;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 인스턴스 내 작업 저장소 (단일 인스턴스 또는 sticky session 환경)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "generation.task.store", havingValue = "local", matchIfMissing = true)
+public class LocalTaskStore implements TaskStore {
+
+    private final Cache<String, TaskEntry> taskCache;
+
+    @Override
+    public void register(String taskId, CompletableFuture<?> future) {
+        taskCache.put(taskId, new TaskEntry.Running(future));
+    }
+
+    @Override
+    public void complete(String taskId, CompletableFuture<?> future, CompletedTask completed) {
+        // 그 사이 제거된 작업은 다시 넣지 않는다
+        taskCache.asMap().replace(taskId, new TaskEntry.Running(future), completed);
+    }
+
+    @Override
+    public TaskEntry find(String taskId) {
+        return taskCache.getIfPresent(taskId);
+    }
+}
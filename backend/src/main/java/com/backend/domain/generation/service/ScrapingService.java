@@ -1,19 +1,37 @@
 package com.backend.domain.generation.service;
 
+import com.backend.domain.generation.dto.G2bProductInfo;
 import com.backend.global.util.CountryCode;
+import com.backend.global.util.ModelNameNormalizer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.net.URI;
 import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -22,108 +40,211 @@ import java.util.regex.Pattern;
 public class ScrapingService {
     private static final String NARA_SEARCH_URL = "https://goods.g2b.go.kr:8053/search/unifiedSearch.do?searchWord=";
     private static final String NARA_REFERER_URL = "https://goods.g2b.go.kr:8053/search/unifiedSearch.do";
+    private static final Pattern COUNTRY_CODE_PATTERN = Pattern.compile("\\(([A-Z]{2})\\)");
 
     private static final List<String> USER_AGENTS = Arrays.asList(
             "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/125.0.0.0 Safari/537.36",
             "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/125.0.0.0 Safari/537.36"
     );
 
+    private final WebClient g2bWebClient;
+    // 파싱 전용 풀을 감싼 Scheduler (스크래핑마다 새로 만들지 않도록 한 번만 생성)
+    private final Scheduler parseScheduler;
+    private final G2bRequestScheduler requestScheduler;
+    private final G2bScrapeCache scrapeCache;
+    private final G2bCatalogIndex catalogIndex;
     private final Random random = new Random();
 
+    // 첫 검색 결과 항목까지만 읽고 멈추는 스트리밍 파싱 (끄면 페이지 전체를 받아 DOM으로 파싱)
+    @Value("${scraping.g2b.streaming-parse.enabled:true}")
+    private boolean streamingParseEnabled = true;
+
+    public ScrapingService(
+            @Qualifier("g2bWebClient") WebClient g2bWebClient,
+            @Qualifier("scrapingParseExecutor") Executor scrapingParseExecutor,
+            G2bRequestScheduler requestScheduler,
+            G2bScrapeCache scrapeCache,
+            G2bCatalogIndex catalogIndex
+    ) {
+        this.g2bWebClient = g2bWebClient;
+        this.parseScheduler = Schedulers.fromExecutor(scrapingParseExecutor);
+        this.requestScheduler = requestScheduler;
+        this.scrapeCache = scrapeCache;
+        this.catalogIndex = catalogIndex;
+    }
+
+    @PreDestroy
+    void disposeParseScheduler() {
+        parseScheduler.dispose();
+    }
+
     public Optional<String> findG2bClassificationNumber(String modelName) {
-        try {
-            Document doc = getScrapingDocument(modelName);
-            Element firstResultItem = doc.selectFirst("ul.bb_d7dbe4 > li:first-child");
+        return findG2bProductInfo(modelName).classificationNumber();
+    }
 
-            if (firstResultItem == null) {
-                log.info("G2B 번호 검색 결과가 없습니다. (모델명: {})", modelName);
-                return Optional.empty();
-            }
+    public Optional<String> findCountryOfOrigin(String modelName) {
+        return findG2bProductInfo(modelName).countryOfOrigin();
+    }
 
-            // 올바른 제품인지 하이라이트 키워드로 검증
-            Element highlightElement = firstResultItem.selectFirst("span.searchKeyword");
-
-            if (highlightElement != null) {
-                Element numberElement = firstResultItem.selectFirst(".searchLabel_blue .labelNum");
-                if (numberElement != null) {
-                    String fullNumberText = numberElement.text().trim();
-                    String[] numberParts = fullNumberText.split("-");
-                    if (numberParts.length == 2) {
-                        log.info("G2B 번호 스크래핑 성공: '{}'", numberParts[1]);
-                        return Optional.of(numberParts[1]);
-                    }
-                }
-            }
-            log.info("G2B 번호 스크래핑 결과: 하이라이트된 검색어가 없습니다. (모델명: {})", modelName);
-            return Optional.empty();
+    /**
+     * 검색 페이지를 한 번만 받아 분류번호와 원산지를 함께 추출한다.
+     * (분류번호/원산지를 따로 조회하면 같은 페이지를 두 번 요청하게 되어 G2B 차단 위험이 커진다)
+     */
+    public G2bProductInfo findG2bProductInfo(String modelName) {
+        return fetchG2bProductInfo(modelName).join();
+    }
 
-        } catch (Exception e) {
-            log.error("G2B 번호 스크래핑 중 오류 발생 (모델명: {})", modelName, e);
-            return Optional.empty();
+    /**
+     * {@link #findG2bProductInfo(String)}의 논블로킹 버전
+     * 오프라인 카탈로그 인덱스나 캐시(L1/L2)에 결과가 있으면 네트워크 요청 없이 바로 반환한다.
+     * 요청 간격은 공용 스케줄러가 전체 요청 기준으로 조절하며, 대기와 네트워크 I/O는 스레드를 점유하지 않는다.
+     * HTML 파싱만 파싱 전용 풀에서 수행한다. 오류가 나면 캐시하지 않고 빈 결과로 완료된다.
+     * 반환된 Future를 취소하면 요청 간격 대기와 진행 중인 G2B 요청(연결)을 바로 중단하고, 파싱 단계로 넘어가지 않는다.
+     */
+    public CompletableFuture<G2bProductInfo> fetchG2bProductInfo(String modelName) {
+        String modelKey = ModelNameNormalizer.normalize(modelName);
+        Optional<G2bProductInfo> catalogHit = catalogIndex.find(modelKey);
+        if (catalogHit.isPresent()) {
+            log.info("G2B 카탈로그 인덱스 적중: modelKey={}", modelKey);
+            return CompletableFuture.completedFuture(catalogHit.get());
         }
-    }
 
-    public Optional<String> findCountryOfOrigin(String modelName) {
-        try {
-            Document doc = getScrapingDocument(modelName);
-            Element firstResultItem = doc.selectFirst("ul.bb_d7dbe4 > li:first-child");
+        return scrapeCache.get(modelKey)
+                .switchIfEmpty(Mono.defer(() -> scrape(modelName)
+                        // L2(DB) 저장은 응답을 기다리게 하지 않고, 호출자가 취소해도 끝까지 진행되도록 따로 구독한다
+                        .doOnNext(info -> scrapeCache.put(modelKey, info).subscribe())))
+                .onErrorResume(e -> {
+                    log.error("G2B 상품정보 스크래핑 중 오류 발생 (모델명: {})", modelName, e);
+                    return Mono.just(G2bProductInfo.empty());
+                })
+                .defaultIfEmpty(G2bProductInfo.empty())
+                .doOnCancel(() -> log.info("G2B 상품정보 조회 취소: modelKey={}", modelKey))
+                .toFuture();
+    }
 
-            if (firstResultItem == null) {
-                log.info("원산지 검색 결과가 없습니다. (모델명: {})", modelName);
-                return Optional.empty();
-            }
+    private Mono<G2bProductInfo> scrape(String modelName) {
+        String searchUrl = NARA_SEARCH_URL + URLEncoder.encode(modelName, StandardCharsets.UTF_8);
 
-            // 1. 먼저, 이 항목이 우리가 찾는 제품이 맞는지 하이라이트 키워드로 검증합니다.
-            Element highlightElement = firstResultItem.selectFirst("span.searchKeyword");
+        Mono<String> page = streamingParseEnabled
+                ? Mono.defer(() -> fetchFirstResultItem(searchUrl))
+                : Mono.defer(() -> fetchSearchPage(searchUrl));
 
-            if (highlightElement == null) {
-                log.info("원산지 스크래핑 결과: 첫 항목에 하이라이트된 검색어가 없어 건너뜁니다. (모델명: {})", modelName);
-                return Optional.empty();
-            }
+        return requestScheduler.acquire()
+                .then(page)
+                .publishOn(parseScheduler)
+                .map(html -> extractProductInfo(Jsoup.parse(html, searchUrl), modelName));
+    }
 
-            // 2. 검증이 끝났으면, 국가 코드가 포함된 'div.searchListImgTit' 요소의 텍스트를 가져옵니다.
-            Element titleDiv = firstResultItem.selectFirst("div.searchListImgTit");
+    G2bProductInfo extractProductInfo(Document doc, String modelName) {
+        Element firstResultItem = doc.selectFirst("ul.bb_d7dbe4 > li:first-child");
 
-            if (titleDiv == null) {
-                log.info("원산지 스크래핑 결과: 제목 div를 찾을 수 없습니다. (모델명: {})", modelName);
-                return Optional.empty();
-            }
+        if (firstResultItem == null) {
+            log.info("G2B 검색 결과가 없습니다. (모델명: {})", modelName);
+            return G2bProductInfo.empty();
+        }
 
-            String fullText = titleDiv.text();
-            Pattern pattern = Pattern.compile("\\(([A-Z]{2})\\)");
-            Matcher matcher = pattern.matcher(fullText);
+        // 올바른 제품인지 하이라이트 키워드로 검증
+        Element highlightElement = firstResultItem.selectFirst("span.searchKeyword");
 
-            if (matcher.find()) {
-                String countryCode = matcher.group(1); // "TH"
-                log.info("원산지 스크래핑 성공: 국가코드 '{}'를 찾았습니다.", countryCode);
+        if (highlightElement == null) {
+            log.info("G2B 스크래핑 결과: 첫 항목에 하이라이트된 검색어가 없어 건너뜁니다. (모델명: {})", modelName);
+            return G2bProductInfo.empty();
+        }
 
-                // 찾은 국가 코드를 CountryCode Enum을 사용해 국가명으로 변환
-                return CountryCode.fromCode(countryCode)
-                        .map(CountryCode::getCountryName);
+        return G2bProductInfo.of(
+                extractClassificationNumber(firstResultItem, modelName),
+                extractCountryOfOrigin(firstResultItem, modelName)
+        );
+    }
 
-            } else {
-                log.info("원산지 스크래핑 결과: 텍스트에서 국가코드를 찾을 수 없습니다. (전체 텍스트: {})", fullText);
-                return Optional.empty();
+    private String extractClassificationNumber(Element resultItem, String modelName) {
+        Element numberElement = resultItem.selectFirst(".searchLabel_blue .labelNum");
+        if (numberElement != null) {
+            String fullNumberText = numberElement.text().trim();
+            String[] numberParts = fullNumberText.split("-");
+            if (numberParts.length == 2) {
+                log.info("G2B 번호 스크래핑 성공: '{}'", numberParts[1]);
+                return numberParts[1];
             }
+        }
+        log.info("G2B 번호 스크래핑 결과: 분류번호를 찾을 수 없습니다. (모델명: {})", modelName);
+        return null;
+    }
+
+    private String extractCountryOfOrigin(Element resultItem, String modelName) {
+        // 국가 코드가 포함된 'div.searchListImgTit' 요소의 텍스트를 가져옵니다.
+        Element titleDiv = resultItem.selectFirst("div.searchListImgTit");
 
-        } catch (Exception e) {
-            log.error("원산지 스크래핑 중 오류 발생 (모델명: {})", modelName, e);
-            return Optional.empty();
+        if (titleDiv == null) {
+            log.info("원산지 스크래핑 결과: 제목 div를 찾을 수 없습니다. (모델명: {})", modelName);
+            return null;
         }
+
+        String fullText = titleDiv.text();
+        Matcher matcher = COUNTRY_CODE_PATTERN.matcher(fullText);
+
+        if (!matcher.find()) {
+            log.info("원산지 스크래핑 결과: 텍스트에서 국가코드를 찾을 수 없습니다. (전체 텍스트: {})", fullText);
+            return null;
+        }
+
+        String countryCode = matcher.group(1); // "TH"
+        log.info("원산지 스크래핑 성공: 국가코드 '{}'를 찾았습니다.", countryCode);
+
+        // 찾은 국가 코드를 CountryCode Enum을 사용해 국가명으로 변환
+        return CountryCode.fromCode(countryCode)
+                .map(CountryCode::getCountryName)
+                .orElse(null);
     }
 
-    private Document getScrapingDocument(String modelName) throws Exception {
-        TimeUnit.MILLISECONDS.sleep(1000 + random.nextInt(1000));
-        String encodedModelName = URLEncoder.encode(modelName, StandardCharsets.UTF_8);
-        String searchUrl = NARA_SEARCH_URL + encodedModelName;
-        log.info("Scraping at: {}", searchUrl);
+    private Mono<String> fetchSearchPage(String searchUrl) {
+        return searchRequest(searchUrl)
+                .retrieve()
+                .bodyToMono(String.class);
+    }
 
+    /**
+     * 결과 목록의 첫 항목이 닫히는 즉시 읽기를 멈추고 그 조각만 반환한다. (항목이 없으면 빈 문자열)
+     * 남은 응답은 읽지 않고 연결을 끊으므로 해당 커넥션은 재사용되지 않는다.
+     */
+    private Mono<String> fetchFirstResultItem(String searchUrl) {
+        return searchRequest(searchUrl)
+                .retrieve()
+                .toEntityFlux(DataBuffer.class)
+                .flatMap(entity -> {
+                    Charset charset = Optional.ofNullable(entity.getHeaders().getContentType())
+                            .map(MediaType::getCharset)
+                            .orElse(StandardCharsets.UTF_8);
+                    G2bFirstResultReader reader = new G2bFirstResultReader(charset);
+
+                    return entity.getBody()
+                            .map(ScrapingService::toByteBuffer)
+                            .takeUntil(reader::feed)
+                            .then(Mono.fromSupplier(() -> {
+                                log.info("G2B 검색 페이지 스트리밍 파싱: bytesRead={}, stoppedEarly={}",
+                                        reader.getBytesRead(), reader.isDone());
+                                return Objects.requireNonNullElse(reader.firstItemHtml(), "");
+                            }));
+                });
+    }
+
+    private WebClient.RequestHeadersSpec<?> searchRequest(String searchUrl) {
+        log.info("Scraping at: {}", searchUrl);
         String randomUserAgent = USER_AGENTS.get(random.nextInt(USER_AGENTS.size()));
 
-        return Jsoup.connect(searchUrl)
-                .header("User-Agent", randomUserAgent)
-                .header("Referer", NARA_REFERER_URL)
-                .timeout(10000)
-                .get();
+        return g2bWebClient.get()
+                .uri(URI.create(searchUrl))
+                .header(HttpHeaders.USER_AGENT, randomUserAgent)
+                .header(HttpHeaders.REFERER, NARA_REFERER_URL);
+    }
+
+    private static ByteBuffer toByteBuffer(DataBuffer dataBuffer) {
+        try {
+            byte[] bytes = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(bytes);
+            return ByteBuffer.wrap(bytes);
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
     }
-}
\ No newline at end of file
+}
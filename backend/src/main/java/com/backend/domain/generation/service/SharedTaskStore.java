@@ -0,0 +1,120 @@
+package com.backend.domain.generation.service;
+
+import com.backend.domain.generation.async.CompletedTask;
+import com.backend.domain.generation.async.TaskEntry;
+import com.backend.domain.generation.entity.GenerationTask;
+import com.backend.domain.generation.repository.GenerationTaskRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 여러 인스턴스가 공유하는 작업 저장소 (로드밸런서 뒤에서 어느 인스턴스로 결과를 조회해도 응답할 수 있도록)
+ * - DB 테이블(generation_task)에 상태와 직렬화된 결과를 기록한다.
+ * - 인스턴스 내 캐시(taskCache)를 near-cache로 둔다. 자신이 시작한 작업의 Future와, 한 번 읽은 완료 결과(불변)를 보관한다.
+ * - 다른 인스턴스에서 진행 중인 작업은 Future 없이 {@link TaskEntry.Remote}로 조회된다. (취소는 시작한 인스턴스에서만 가능)
+ * DB 기록에 실패해도 작업은 계속 진행하고, 이 인스턴스에서는 결과를 조회할 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "generation.task.store", havingValue = "shared")
+public class SharedTaskStore implements TaskStore {
+
+    private final Cache<String, TaskEntry> nearCache;
+    private final GenerationTaskRepository repository;
+
+    @Value("${generation.task.completed.ttl:10m}")
+    private Duration completedTtl = Duration.ofMinutes(10);
+
+    @Value("${generation.task.in-flight.max-age:1h}")
+    private Duration inFlightMaxAge = Duration.ofHours(1);
+
+    private final Clock clock = Clock.systemDefaultZone();
+
+    public SharedTaskStore(Cache<String, TaskEntry> taskCache, GenerationTaskRepository repository) {
+        this.nearCache = taskCache;
+        this.repository = repository;
+    }
+
+    @Override
+    public void register(String taskId, CompletableFuture<?> future) {
+        nearCache.put(taskId, new TaskEntry.Running(future));
+        save(GenerationTask.running(taskId, LocalDateTime.now(clock).plus(inFlightMaxAge)));
+    }
+
+    @Override
+    public void complete(String taskId, CompletableFuture<?> future, CompletedTask completed) {
+        nearCache.asMap().replace(taskId, new TaskEntry.Running(future), completed);
+        LocalDateTime expiresAt = LocalDateTime.now(clock).plus(completedTtl);
+        try {
+            GenerationTask task = repository.findById(taskId)
+                    .map(existing -> {
+                        existing.complete(completed, expiresAt);
+                        return existing;
+                    })
+                    .orElseGet(() -> GenerationTask.completed(taskId, completed, expiresAt));
+            save(task);
+        } catch (DataAccessException e) {
+            log.warn("작업 저장소(DB) 조회 실패, 이 인스턴스에서만 조회 가능: taskId={}, error={}", taskId, e.getMessage());
+        }
+    }
+
+    @Override
+    public TaskEntry find(String taskId) {
+        TaskEntry cached = nearCache.getIfPresent(taskId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Optional<GenerationTask> stored;
+        try {
+            stored = repository.findById(taskId);
+        } catch (DataAccessException e) {
+            log.warn("작업 저장소(DB) 조회 실패: taskId={}, error={}", taskId, e.getMessage());
+            return null;
+        }
+
+        GenerationTask task = stored.filter(t -> !t.isExpired(LocalDateTime.now(clock))).orElse(null);
+        if (task == null) {
+            return null;
+        }
+        if (task.isRunning()) {
+            // 다른 인스턴스에서 진행 중. 곧 바뀌는 상태이므로 near-cache에 넣지 않는다.
+            return new TaskEntry.Remote();
+        }
+        CompletedTask completed = task.toCompletedTask();
+        nearCache.put(taskId, completed);
+        return completed;
+    }
+
+    @Scheduled(fixedDelayString = "${generation.task.shared.purge-interval:10m}")
+    public void purgeExpired() {
+        try {
+            int deleted = repository.deleteExpired(LocalDateTime.now(clock));
+            if (deleted > 0) {
+                log.info("만료된 작업 {}건 삭제", deleted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("만료된 작업 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private void save(GenerationTask task) {
+        try {
+            repository.save(task);
+        } catch (DataAccessException e) {
+            log.warn("작업 저장소(DB) 기록 실패, 이 인스턴스에서만 조회 가능: taskId={}, status={}, error={}",
+                    task.getTaskId(), task.getStatus(), e.getMessage());
+        }
+    }
+}
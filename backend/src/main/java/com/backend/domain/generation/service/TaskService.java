@@ -1,25 +1,76 @@
 package com.backend.domain.generation.service;
 
+import com.backend.domain.generation.async.CompletedTask;
+import com.backend.domain.generation.async.TaskEntry;
 import com.backend.domain.generation.async.TaskResult;
-import com.github.benmanes.caffeine.cache.Cache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TaskService {
-    private final Cache<String, CompletableFuture<?>> taskCache;
-    private final Executor taskExecutor;
+    private final TaskStore taskStore;
+    // 저장소 조회/보관(공유 저장소는 블로킹 JPA)을 포함한 후처리 전용. 생성 작업 풀(taskExecutor)을 점유하지 않는다.
+    private final Executor taskStoreExecutor;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Value("${generation.task.sse-timeout:5m}")
+    private Duration sseTimeout = Duration.ofMinutes(5);
+
+    @Value("${generation.task.long-poll.max-wait:60s}")
+    private Duration longPollMaxWait = Duration.ofSeconds(60);
+
+    // 다른 인스턴스에서 진행 중인 작업을 기다릴 때 공유 저장소 확인 주기
+    @Value("${generation.task.shared.poll-interval:1s}")
+    private Duration remotePollInterval = Duration.ofSeconds(1);
+
+    // 완료된 결과 JSON이 이 크기 이상이면 gzip으로 압축해 보관한다
+    @Value("${generation.task.completed.compress-min-bytes:1024}")
+    private int compressMinBytes = 1024;
+
+    // 결과를 기다리며 열려 있는 SSE 연결 수
+    private final AtomicInteger openStreams = new AtomicInteger();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("generation.task.sse.open", openStreams, AtomicInteger::get)
+                .description("작업 결과를 기다리며 열려 있는 SSE 연결 수")
+                .register(meterRegistry);
+    }
 
     public <T> String submitTask(CompletableFuture<T> future) {
-        String taskId = UUID.randomUUID().toString();
+        return submitTask(newTaskId(), future);
+    }
+
+    public static String newTaskId() {
+        return UUID.randomUUID().toString();
+    }
 
+    /**
+     * 미리 발급한 taskId로 작업을 등록한다. (멱등 키 선점 후 작업을 시작하는 경우)
+     */
+    public <T> String submitTask(String taskId, CompletableFuture<T> future) {
         future.whenCompleteAsync((result, error) -> {
             if (error != null) {
                 // todo: 에러 로깅 방식 변경
@@ -27,20 +78,163 @@ public class TaskService {
             } else {
                 log.info("Task {} completed successfully.", taskId);
             }
-        }, taskExecutor);
+        }, taskStoreExecutor);
 
-        taskCache.put(taskId, future);
+        taskStore.register(taskId, future);
+        // 완료되면 직렬화된 결과로 교체해 Future와 결과 객체 그래프를 바로 놓아준다.
+        // 교체되면서 가중치/만료 시간도 완료 기준으로 바뀐다. (고정 해제)
+        // 직렬화/압축과 저장소 보관(블로킹 I/O)은 Future를 완료한 스레드(네트워크 이벤트 루프일 수 있음)가 아닌 저장소 풀에서 처리한다.
+        future.whenCompleteAsync((result, error) -> {
+            taskStore.complete(taskId, future, compact(taskId, future));
+        }, taskStoreExecutor);
         return taskId;
     }
 
-    @SuppressWarnings("unchecked") // 타입 캐스팅 경고를 무시
-    public <T> TaskResult<T> getTaskResult(String taskId) {
-        CompletableFuture<T> future = (CompletableFuture<T>) taskCache.getIfPresent(taskId);
+    private CompletedTask compact(String taskId, CompletableFuture<?> future) {
+        TaskResult<?> taskResult = toTaskResult(future);
+        CompletedTask completed = switch (taskResult.getStatus()) {
+            case COMPLETED -> serialize(taskId, taskResult.getResult());
+            case CANCELLED -> CompletedTask.cancelled();
+            default -> CompletedTask.failed(taskResult.getError());
+        };
+        meterRegistry.summary("generation.task.completed.bytes").record(completed.sizeInBytes());
+        return completed;
+    }
 
-        if (future == null) {
+    private CompletedTask serialize(String taskId, Object result) {
+        try {
+            return CompletedTask.completed(objectMapper.writeValueAsBytes(result), compressMinBytes);
+        } catch (JsonProcessingException e) {
+            log.error("Task {} 결과 직렬화 실패", taskId, e);
+            return CompletedTask.failed("결과를 저장하지 못했습니다.");
+        }
+    }
+
+    public TaskResult<?> getTaskResult(String taskId) {
+        return toTaskResult(taskStore.find(taskId));
+    }
+
+    private TaskResult<?> toTaskResult(TaskEntry entry) {
+        if (entry == null) {
             return TaskResult.notFound();
         }
+        if (entry instanceof CompletedTask completed) {
+            return completed.toTaskResult();
+        }
+        if (entry instanceof TaskEntry.Running running) {
+            return toTaskResult(running.future());
+        }
+        return TaskResult.running();
+    }
+
+    /**
+     * 진행 중인 작업이 끝날 때 완료되는 Future. 없거나 이미 끝난 작업이면 null
+     * 다른 인스턴스에서 진행 중인 작업은 maxWait 동안 공유 저장소를 주기적으로 확인한다.
+     */
+    private CompletableFuture<?> completionOf(String taskId, TaskEntry entry, Duration maxWait) {
+        if (entry instanceof TaskEntry.Running running) {
+            return running.future().isDone() ? null : running.future();
+        }
+        if (entry instanceof TaskEntry.Remote) {
+            CompletableFuture<Void> watch = new CompletableFuture<>();
+            scheduleRemotePoll(taskId, watch, System.nanoTime() + maxWait.toNanos());
+            return watch;
+        }
+        return null;
+    }
 
+    private void scheduleRemotePoll(String taskId, CompletableFuture<Void> watch, long deadlineNanos) {
+        if (System.nanoTime() - deadlineNanos >= 0) {
+            return; // 호출부의 타임아웃으로 응답한다
+        }
+        CompletableFuture.delayedExecutor(remotePollInterval.toMillis(), TimeUnit.MILLISECONDS, taskStoreExecutor)
+                .execute(() -> {
+                    TaskEntry entry = taskStore.find(taskId);
+                    if (entry == null || entry.isDone()) {
+                        watch.complete(null);
+                    } else {
+                        scheduleRemotePoll(taskId, watch, deadlineNanos);
+                    }
+                });
+    }
+
+    /**
+     * 롱 폴링: 작업이 끝나거나 wait가 지날 때까지 응답을 미룬다. (서블릿 스레드는 대기 중 반환된다)
+     * 이미 끝났거나 없는 작업, wait가 0이면 현재 상태로 바로 응답하고, 시간이 다 되면 RUNNING으로 응답한다.
+     * wait는 설정된 최대 대기 시간을 넘지 않는다.
+     * 다른 인스턴스에서 진행 중인 작업(공유 저장소)은 대기 중 저장소를 주기적으로 확인한다.
+     */
+    public DeferredResult<TaskResult<?>> awaitTaskResult(String taskId, Duration wait) {
+        TaskEntry entry = taskStore.find(taskId);
+        long timeoutMillis = Math.min(wait.toMillis(), longPollMaxWait.toMillis());
+        CompletableFuture<?> future = timeoutMillis > 0 ? completionOf(taskId, entry, Duration.ofMillis(timeoutMillis)) : null;
+        if (future == null) {
+            DeferredResult<TaskResult<?>> immediate = new DeferredResult<>();
+            immediate.setResult(toTaskResult(entry));
+            return immediate;
+        }
+
+        DeferredResult<TaskResult<?>> deferred = new DeferredResult<>(timeoutMillis, TaskResult::running);
+        future.whenCompleteAsync((result, error) -> deferred.setResult(getTaskResult(taskId)), taskStoreExecutor);
+        return deferred;
+    }
+
+    /**
+     * 작업 결과를 SSE로 구독한다.
+     * 대기 중에는 스레드를 점유하지 않고(서블릿 비동기 응답), 작업 Future가 완료되는 즉시 결과를 보내고 연결을 닫는다.
+     * - 연결 직후 현재 상태(RUNNING)를 한 번 보내고, 완료 시 result 이벤트로 최종 결과를 보낸다.
+     * - 타임아웃이 지나면 연결을 닫으며, 클라이언트는 다시 구독하거나 결과 조회 API로 확인하면 된다.
+     */
+    public SseEmitter subscribe(String taskId) {
+        SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
+        TaskEntry entry = taskStore.find(taskId);
+        CompletableFuture<?> future = completionOf(taskId, entry, sseTimeout);
+
+        if (future == null) {
+            sendResultAndComplete(emitter, taskId, toTaskResult(entry));
+            return emitter;
+        }
+
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Runnable onClose = () -> {
+            if (closed.compareAndSet(false, true)) {
+                openStreams.decrementAndGet();
+            }
+        };
+        openStreams.incrementAndGet();
+        emitter.onCompletion(onClose);
+        emitter.onTimeout(onClose);
+        emitter.onError(error -> onClose.run());
+
+        sendEvent(emitter, taskId, "status", TaskResult.running());
+        future.whenCompleteAsync((result, error) -> {
+            if (!closed.get()) {
+                sendResultAndComplete(emitter, taskId, getTaskResult(taskId));
+            }
+        }, taskStoreExecutor);
+        return emitter;
+    }
+
+    private void sendResultAndComplete(SseEmitter emitter, String taskId, TaskResult<?> result) {
+        if (sendEvent(emitter, taskId, "result", result)) {
+            emitter.complete();
+        }
+    }
+
+    private boolean sendEvent(SseEmitter emitter, String taskId, String eventName, TaskResult<?> result) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(eventName)
+                    .data(result, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 먼저 연결을 끊은 경우. 정리는 서블릿 컨테이너 콜백(onError/onCompletion)에서 처리된다.
+            log.debug("Task {} SSE 전송 실패: {}", taskId, e.getMessage());
+            return false;
+        }
+    }
+
+    private <T> TaskResult<T> toTaskResult(CompletableFuture<T> future) {
         if (future.isDone()) {
             if (future.isCancelled()) {
                 return TaskResult.cancelled();
@@ -60,8 +254,11 @@ public class TaskService {
     // --- [MODIFIED] ---
     // cancelTask도 모든 타입의 Future를 취소할 수 있도록 수정
     public boolean cancelTask(String taskId) {
-        CompletableFuture<?> future = taskCache.getIfPresent(taskId);
-        if (future != null && !future.isDone()) {
+        if (!(taskStore.find(taskId) instanceof TaskEntry.Running running)) {
+            return false; // 없거나 끝난 작업, 또는 다른 인스턴스에서 진행 중인 작업
+        }
+        CompletableFuture<?> future = running.future();
+        if (!future.isDone()) {
             boolean cancelled = future.cancel(true);
             if (cancelled) {
                 log.info("Task {} 성공적으로 취소됨", taskId);
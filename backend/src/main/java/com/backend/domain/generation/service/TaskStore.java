@@ -0,0 +1,23 @@
+package com.backend.domain.generation.service;
+
+import com.backend.domain.generation.async.CompletedTask;
+import com.backend.domain.generation.async.TaskEntry;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 생성 작업 저장소
+ * 진행 중인 작업의 Future는 작업을 시작한 인스턴스만 가지며, 완료되면 직렬화된 결과({@link CompletedTask})로 교체된다.
+ * generation.task.store=local(기본): 인스턴스 내 Caffeine 캐시 / shared: DB 테이블 + 인스턴스 내 캐시
+ */
+public interface TaskStore {
+
+    void register(String taskId, CompletableFuture<?> future);
+
+    void complete(String taskId, CompletableFuture<?> future, CompletedTask completed);
+
+    /**
+     * 작업 조회. 없거나 만료되었으면 null
+     */
+    TaskEntry find(String taskId);
+}
@@ -1,37 +1,63 @@
 package com.backend.domain.generation.service.impl;
 
+import com.backend.domain.generation.async.WorkPriority;
 import com.backend.domain.generation.dto.CertificationResponse;
 import com.backend.domain.generation.dto.GenerateElectronicResponse;
 import com.backend.domain.generation.dto.GenerateNonElectronicResponse;
 import com.backend.domain.generation.service.AiProviderService;
+import com.backend.domain.member.entity.Role;
 import com.backend.global.exception.GenerateApiException;
 import com.backend.global.util.PromptBuilder;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 
 @Slf4j
-@RequiredArgsConstructor
 public abstract class AbstractGenerationService implements AiProviderService {
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_STRING_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+    // 응답 본문 상한 (grounding 메타데이터를 포함해도 수십 KB 수준)
+    private static final int MAX_RESPONSE_BYTES = 2 * 1024 * 1024;
 
     protected final PromptBuilder promptBuilder;
     protected final ObjectMapper objectMapper;
     protected final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+    // 취소로 반납된 동시성 허가를 다음 대기자에게 넘기는 스케줄러
+    private final Scheduler concurrencyHandoffScheduler;
     // 운영 환경별로 timeout/retry 튜닝이 가능하도록 프로퍼티로 분리
     @Value("${generation.ai.request-timeout:20s}")
     private Duration requestTimeout = Duration.ofSeconds(20);
@@ -39,6 +65,79 @@ public abstract class AbstractGenerationService implements AiProviderService {
     private long retryMaxAttempts = 1;
     @Value("${generation.ai.retry.backoff:1s}")
     private Duration retryBackoff = Duration.ofSeconds(1);
+    // 스트리밍을 지원하는 제공자는 첫 JSON 객체가 완성되는 즉시 응답을 확정한다
+    @Value("${generation.ai.streaming.enabled:false}")
+    private boolean streamingEnabled = false;
+    // 꼬리 지연(p99) 완화를 위한 헤징: 최근 지연의 백분위수만큼 응답이 없으면 동일 요청을 한 번 더 보낸다
+    @Value("${generation.ai.hedging.enabled:false}")
+    private boolean hedgingEnabled = false;
+    @Value("${generation.ai.hedging.percentile:0.9}")
+    private double hedgingPercentile = 0.9;
+    @Value("${generation.ai.hedging.min-delay:2s}")
+    private Duration hedgingMinDelay = Duration.ofSeconds(2);
+    @Value("${generation.ai.hedging.min-samples:20}")
+    private int hedgingMinSamples = 20;
+    @Value("${generation.ai.hedging.budget-ratio:0.1}")
+    private double hedgingBudgetRatio = 0.1;
+    // 상류 과부하(429) 방지: 지연/오류 신호에 맞춰 동시 호출 한도를 자동 조절하고 초과분은 대기/거절
+    @Value("${generation.ai.concurrency.enabled:false}")
+    private boolean concurrencyLimitEnabled = false;
+    @Value("${generation.ai.concurrency.initial-limit:20}")
+    private int concurrencyInitialLimit = 20;
+    @Value("${generation.ai.concurrency.min-limit:2}")
+    private int concurrencyMinLimit = 2;
+    @Value("${generation.ai.concurrency.max-limit:100}")
+    private int concurrencyMaxLimit = 100;
+    @Value("${generation.ai.concurrency.max-queue-size:100}")
+    private int concurrencyMaxQueueSize = 100;
+    @Value("${generation.ai.concurrency.max-queue-wait:10s}")
+    private Duration concurrencyMaxQueueWait = Duration.ofSeconds(10);
+    @Value("${generation.ai.concurrency.latency-tolerance:2.0}")
+    private double concurrencyLatencyTolerance = 2.0;
+    // 장애 시 타임아웃/재시도를 모두 기다리지 않도록 실패율/느린 호출 비율 기반으로 즉시 거절
+    @Value("${generation.ai.circuit-breaker.enabled:true}")
+    private boolean circuitBreakerEnabled = true;
+    @Value("${generation.ai.circuit-breaker.window-size:20}")
+    private int circuitWindowSize = 20;
+    @Value("${generation.ai.circuit-breaker.minimum-calls:10}")
+    private int circuitMinimumCalls = 10;
+    @Value("${generation.ai.circuit-breaker.failure-rate-threshold:0.5}")
+    private double circuitFailureRateThreshold = 0.5;
+    @Value("${generation.ai.circuit-breaker.slow-call-rate-threshold:0.8}")
+    private double circuitSlowCallRateThreshold = 0.8;
+    @Value("${generation.ai.circuit-breaker.slow-call-duration:15s}")
+    private Duration circuitSlowCallDuration = Duration.ofSeconds(15);
+    @Value("${generation.ai.circuit-breaker.open-duration:30s}")
+    private Duration circuitOpenDuration = Duration.ofSeconds(30);
+    @Value("${generation.ai.circuit-breaker.half-open-probes:3}")
+    private int circuitHalfOpenProbes = 3;
+
+    private HedgingPolicy hedgingPolicy;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private ProviderCircuitBreaker circuitBreaker;
+
+    protected AbstractGenerationService(
+            PromptBuilder promptBuilder,
+            ObjectMapper objectMapper,
+            WebClient webClient,
+            MeterRegistry meterRegistry
+    ) {
+        this(promptBuilder, objectMapper, webClient, meterRegistry, Schedulers.parallel());
+    }
+
+    AbstractGenerationService(
+            PromptBuilder promptBuilder,
+            ObjectMapper objectMapper,
+            WebClient webClient,
+            MeterRegistry meterRegistry,
+            Scheduler concurrencyHandoffScheduler
+    ) {
+        this.promptBuilder = promptBuilder;
+        this.objectMapper = objectMapper;
+        this.webClient = webClient;
+        this.meterRegistry = meterRegistry;
+        this.concurrencyHandoffScheduler = concurrencyHandoffScheduler;
+    }
 
     @Override
     public CompletableFuture<GenerateElectronicResponse> fetchMainSpec(
@@ -62,17 +161,109 @@ public abstract class AbstractGenerationService implements AiProviderService {
         return fetchFromAi(prompt, GenerateNonElectronicResponse.class);
     }
 
+    @Override
+    public CompletableFuture<GenerateElectronicResponse> fetchMainSpecWithCertification(
+            String model,
+            String specExample,
+            String productNameExample,
+            Role plan
+    ) {
+        // 인증번호 필드까지 포함한 통합 프롬프트 1회 호출 (검색 grounding/토큰 비용을 한 번만 지불)
+        String prompt = promptBuilder.buildFusedSpecPrompt(model, specExample, productNameExample);
+        return fetchFromAi(prompt, GenerateElectronicResponse.class);
+    }
+
+    /**
+     * 반환된 Future를 취소하면 구독이 해제되어 진행 중인 HTTP 요청(연결), 헤징/재시도 타이머가 정리되고
+     * 동시성 허가도 즉시 반납된다. (toFuture()의 cancel은 상류 구독을 취소한다)
+     */
     private <T> CompletableFuture<T> fetchFromAi(String prompt, Class<T> clazz) {
+        if (!circuitBreakerEnabled) {
+            return requestFromAi(prompt, clazz)
+                    .doOnCancel(() -> recordCancelled(clazz))
+                    .toFuture();
+        }
+
+        ProviderCircuitBreaker breaker = circuitBreaker();
+        long callGeneration = breaker.tryAcquire();
+        if (callGeneration == ProviderCircuitBreaker.REJECTED) {
+            // 타임아웃/재시도/스레드 점유 없이 즉시 실패
+            return CompletableFuture.failedFuture(new GenerateApiException(
+                    "AI 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요."));
+        }
+
+        final long callStartNanos = System.nanoTime();
+        // 요청 구성 중 예외도 결과로 반납되도록 구독 시점에 생성
+        return Mono.defer(() -> requestFromAi(prompt, clazz))
+                .doOnSuccess(result -> breaker.onSuccess(callGeneration, System.nanoTime() - callStartNanos))
+                .doOnError(error -> {
+                    // 제공자 장애로 볼 수 있는 오류(429/5xx/네트워크/타임아웃)만 실패로 집계
+                    if (isRetryableError(error)) {
+                        breaker.onFailure(callGeneration, System.nanoTime() - callStartNanos);
+                    } else {
+                        breaker.onIgnored(callGeneration);
+                    }
+                })
+                .doOnCancel(() -> {
+                    breaker.onIgnored(callGeneration);
+                    recordCancelled(clazz);
+                })
+                .toFuture();
+    }
+
+    private void recordCancelled(Class<?> clazz) {
+        log.info("AI 호출 취소: provider={}, responseType={}", getProviderName(), clazz.getSimpleName());
+        meterRegistry.counter("generation.ai.cancelled", "provider", getProviderName()).increment();
+    }
+
+    private <T> Mono<T> requestFromAi(String prompt, Class<T> clazz) {
         final long requestStartNanos = System.nanoTime();
         HttpEntity<Object> requestEntity = createRequestEntity(prompt);
 
-        Mono<String> responseMono = webClient.post()
-                .uri(getApiUrl())
-                .headers(headers -> headers.addAll(requestEntity.getHeaders()))
-                .bodyValue(requestEntity.getBody())
-                .retrieve()
-                .bodyToMono(String.class)
-                .timeout(requestTimeout)
+        Mono<T> resultMono;
+        if (streamingEnabled && this instanceof StreamingAiProvider streaming) {
+            resultMono = withTimeoutAndRetry(streamFirstJsonObject(streaming, requestEntity), clazz, requestStartNanos)
+                    .map(json -> {
+                        logResponseReceived(clazz, requestStartNanos, true, json.length());
+                        // 스트리밍 모드는 이미 JSON 객체만 추출된 상태로 수신된다
+                        return bindJson(json, clazz);
+                    });
+        } else {
+            resultMono = withTimeoutAndRetry(requestWholeBody(requestEntity), clazz, requestStartNanos)
+                    .map(body -> {
+                        logResponseReceived(clazz, requestStartNanos, false, body.readableByteCount());
+                        return decodeResponse(body, clazz);
+                    })
+                    // 디코딩 전에 취소/폐기된 버퍼는 풀로 반환
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+        }
+
+        return resultMono
+                .doOnSuccess(result -> log.info(
+                        "AI 파싱 완료: responseType={}, elapsedMs={}",
+                        clazz.getSimpleName(),
+                        elapsedMillis(requestStartNanos)
+                ))
+                .doOnError(error -> log.warn(
+                        "AI 호출/파싱 실패: responseType={}, elapsedMs={}, error={}",
+                        clazz.getSimpleName(),
+                        elapsedMillis(requestStartNanos),
+                        rootMessage(error)
+                ));
+    }
+
+    private <R> Mono<R> withTimeoutAndRetry(Mono<R> responseMono, Class<?> clazz, long requestStartNanos) {
+        // 타임아웃은 실제 호출 구간에만 적용하고, 한도 대기 시간은 리미터가 따로 제한한다
+        responseMono = responseMono.timeout(requestTimeout);
+        // 헤징 요청과 재시도도 각각 허가를 받도록 시도 단위로 한도를 적용
+        if (concurrencyLimitEnabled) {
+            responseMono = limited(responseMono, clazz);
+        }
+        if (hedgingEnabled) {
+            responseMono = hedged(responseMono, clazz);
+        }
+
+        responseMono = responseMono
                 .switchIfEmpty(Mono.error(new GenerateApiException("AI 서버로부터 빈 응답을 수신했습니다.")));
 
         // 4xx 전체 재시도는 오히려 지연만 늘릴 수 있어, 재시도 가치가 있는 오류만 선별
@@ -89,28 +280,202 @@ public abstract class AbstractGenerationService implements AiProviderService {
                             ))
             );
         }
+        return responseMono;
+    }
 
-        return responseMono.map(jsonResponse -> {
-                    log.info(
-                            "AI 응답 수신: responseType={}, elapsedMs={}, bodyLength={}",
-                            clazz.getSimpleName(),
-                            elapsedMillis(requestStartNanos),
-                            jsonResponse == null ? 0 : jsonResponse.length()
-                    );
-                    return parseResponse(jsonResponse, clazz);
-                })
-                .doOnSuccess(result -> log.info(
-                        "AI 파싱 완료: responseType={}, elapsedMs={}",
-                        clazz.getSimpleName(),
-                        elapsedMillis(requestStartNanos)
-                ))
-                .doOnError(error -> log.warn(
-                        "AI 호출/파싱 실패: responseType={}, elapsedMs={}, error={}",
-                        clazz.getSimpleName(),
-                        elapsedMillis(requestStartNanos),
-                        rootMessage(error)
-                ))
-                .toFuture();
+    /**
+     * 원 요청과, 지연 임계값이 지나면 시작되는 헤징 요청 중 먼저 성공한 쪽을 사용하고 나머지는 취소한다.
+     * 한쪽이 실패해도 다른 쪽이 진행 중이면 그 결과를 기다리고, 둘 다 실패하면 원 요청의 오류로 실패한다.
+     * 헤징 요청을 보내기 전에 원 요청이 실패하면 헤징 없이 바로 실패한다.
+     * 재시도 시에도 시도마다 다시 평가되도록 구독 시점에 임계값/예산을 계산한다.
+     */
+    private <R> Mono<R> hedged(Mono<R> request, Class<?> clazz) {
+        HedgingPolicy policy = hedgingPolicy();
+        Mono<R> timedRequest = Mono.defer(() -> {
+            long attemptStartNanos = System.nanoTime();
+            return request.doOnNext(response -> policy.recordLatency(System.nanoTime() - attemptStartNanos));
+        });
+
+        return Mono.defer(() -> {
+            policy.onRequest();
+            Duration hedgeDelay = policy.hedgeDelay();
+            if (hedgeDelay == null) {
+                return timedRequest;
+            }
+
+            Sinks.Empty<Void> primaryFailed = Sinks.empty();
+            Mono<R> primaryRequest = timedRequest.doOnError(error -> primaryFailed.tryEmitEmpty());
+            Mono<R> hedgeRequest = Mono.delay(hedgeDelay)
+                    .takeUntilOther(primaryFailed.asMono())
+                    .flatMap(tick -> {
+                        if (!policy.tryAcquireHedge()) {
+                            // 예산이 없으면 원 요청만 기다린다
+                            return Mono.<R>empty();
+                        }
+                        log.info("AI 헤징 요청 전송: provider={}, responseType={}, hedgeDelayMs={}",
+                                getProviderName(), clazz.getSimpleName(), hedgeDelay.toMillis());
+                        return timedRequest.doOnNext(response -> policy.recordHedgeWin());
+                    });
+            return Mono.firstWithValue(primaryRequest, hedgeRequest)
+                    .onErrorMap(NoSuchElementException.class, AbstractGenerationService::firstSourceError);
+        });
+    }
+
+    /**
+     * firstWithValue는 값 없이 모두 끝나면 NoSuchElementException에 각 요청의 오류를 담아 실패하므로,
+     * 재시도/서킷 판정이 실제 원인을 보도록 먼저 구독한 요청(원 요청)의 오류를 꺼낸다.
+     */
+    private static Throwable firstSourceError(NoSuchElementException error) {
+        List<Throwable> sourceErrors = new ArrayList<>();
+        if (error.getCause() != null) {
+            sourceErrors.addAll(Exceptions.unwrapMultiple(error.getCause()));
+        }
+        sourceErrors.addAll(List.of(error.getSuppressed()));
+        return sourceErrors.stream()
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(error);
+    }
+
+    /**
+     * 동시성 허가를 받은 뒤 요청을 보내고, 결과(성공 지연/과부하 오류/취소)를 리미터에 반납한다.
+     * 한도 대기 순서는 호출 시점 스레드에 연결된 요청자 우선순위(플랜/회원)를 따른다.
+     */
+    private <R> Mono<R> limited(Mono<R> request, Class<?> clazz) {
+        AdaptiveConcurrencyLimiter limiter = concurrencyLimiter();
+        WorkPriority priority = WorkPriority.current();
+        return Mono.usingWhen(
+                // 응답 타입(인증번호/메인 스펙/비전자제품)별로 지연 기준치를 따로 학습한다
+                limiter.acquire(concurrencyMaxQueueWait, priority, clazz.getSimpleName()),
+                permit -> request,
+                permit -> Mono.fromRunnable(() -> permit.release(AdaptiveConcurrencyLimiter.Outcome.SUCCESS)),
+                (permit, error) -> Mono.fromRunnable(() -> permit.release(isOverloadError(error)
+                        ? AdaptiveConcurrencyLimiter.Outcome.OVERLOAD
+                        : AdaptiveConcurrencyLimiter.Outcome.IGNORE)),
+                // 헤징에서 진 요청/호출자 취소는 상류 용량 신호로 보지 않는다
+                permit -> Mono.fromRunnable(() -> permit.release(AdaptiveConcurrencyLimiter.Outcome.CANCELLED))
+        );
+    }
+
+    private synchronized AdaptiveConcurrencyLimiter concurrencyLimiter() {
+        // @Value 주입이 끝난 뒤 첫 호출 시점에 생성
+        if (concurrencyLimiter == null) {
+            concurrencyLimiter = new AdaptiveConcurrencyLimiter(
+                    getProviderName(),
+                    concurrencyInitialLimit,
+                    concurrencyMinLimit,
+                    concurrencyMaxLimit,
+                    concurrencyMaxQueueSize,
+                    concurrencyLatencyTolerance,
+                    meterRegistry,
+                    concurrencyHandoffScheduler,
+                    System::nanoTime
+            );
+        }
+        return concurrencyLimiter;
+    }
+
+    synchronized ProviderCircuitBreaker circuitBreaker() {
+        // @Value 주입이 끝난 뒤 첫 호출 시점에 생성
+        if (circuitBreaker == null) {
+            circuitBreaker = new ProviderCircuitBreaker(
+                    getProviderName(),
+                    circuitWindowSize,
+                    circuitMinimumCalls,
+                    circuitFailureRateThreshold,
+                    circuitSlowCallRateThreshold,
+                    circuitSlowCallDuration,
+                    circuitOpenDuration,
+                    circuitHalfOpenProbes,
+                    meterRegistry
+            );
+        }
+        return circuitBreaker;
+    }
+
+    private synchronized HedgingPolicy hedgingPolicy() {
+        // @Value 주입이 끝난 뒤 첫 호출 시점에 생성
+        if (hedgingPolicy == null) {
+            hedgingPolicy = new HedgingPolicy(
+                    getProviderName(),
+                    hedgingPercentile,
+                    hedgingMinDelay,
+                    hedgingMinSamples,
+                    hedgingBudgetRatio,
+                    meterRegistry
+            );
+        }
+        return hedgingPolicy;
+    }
+
+    private void logResponseReceived(Class<?> clazz, long requestStartNanos, boolean streaming, int bodyLength) {
+        log.info(
+                "AI 응답 수신: responseType={}, streaming={}, elapsedMs={}, bodyLength={}",
+                clazz.getSimpleName(),
+                streaming,
+                elapsedMillis(requestStartNanos),
+                bodyLength
+        );
+    }
+
+    /**
+     * 응답 본문을 문자열로 변환하지 않고 수신한 버퍼 그대로 모은다.
+     * (Netty 환경에서는 조각 버퍼를 복사 없이 CompositeByteBuf로 합친다)
+     */
+    private Mono<DataBuffer> requestWholeBody(HttpEntity<Object> requestEntity) {
+        return DataBufferUtils.join(
+                webClient.post()
+                        .uri(getApiUrl())
+                        .headers(headers -> headers.addAll(requestEntity.getHeaders()))
+                        .bodyValue(requestEntity.getBody())
+                        .retrieve()
+                        .bodyToFlux(DataBuffer.class),
+                MAX_RESPONSE_BYTES
+        );
+    }
+
+    /**
+     * SSE 스트림의 텍스트 조각을 순서대로 이어 붙이다가 첫 JSON 객체가 닫히는 순간 구독을 끊는다.
+     * 뒤따르는 grounding 메타데이터 등은 읽지 않으며, 전체 본문을 메모리에 쌓지 않는다.
+     */
+    private Mono<String> streamFirstJsonObject(StreamingAiProvider streaming, HttpEntity<Object> requestEntity) {
+        // 재시도 시 추출 상태가 초기화되도록 구독마다 새 추출기를 만든다
+        return Mono.defer(() -> {
+            IncrementalJsonObjectExtractor extractor = new IncrementalJsonObjectExtractor();
+            return webClient.post()
+                    .uri(streaming.getStreamApiUrl())
+                    .headers(headers -> headers.addAll(requestEntity.getHeaders()))
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(requestEntity.getBody())
+                    .retrieve()
+                    .bodyToFlux(SSE_STRING_TYPE)
+                    .mapNotNull(ServerSentEvent::data)
+                    .concatMap(chunk -> Mono.justOrEmpty(extractor.append(extractStreamChunkText(streaming, chunk))))
+                    .next();
+        });
+    }
+
+    private static String extractStreamChunkText(StreamingAiProvider streaming, String chunk) {
+        try {
+            return streaming.extractTextFromStreamChunk(chunk);
+        } catch (GenerateApiException e) {
+            throw e;
+        } catch (Exception e) {
+            // 파싱 오류는 재시도 대상(IOException)으로 분류되지 않도록 원인 없이 감싼다
+            throw new GenerateApiException("AI 스트리밍 응답 조각 파싱 중 오류: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 상류 용량 초과 신호(429, 5xx, 타임아웃)인지 판별한다.
+     */
+    private boolean isOverloadError(Throwable throwable) {
+        Throwable root = rootCause(throwable);
+        if (root instanceof WebClientResponseException responseException) {
+            int statusCode = responseException.getStatusCode().value();
+            return statusCode == 429 || responseException.getStatusCode().is5xxServerError();
+        }
+        return root instanceof TimeoutException;
     }
 
     private boolean isRetryableError(Throwable throwable) {
@@ -129,79 +494,59 @@ public abstract class AbstractGenerationService implements AiProviderService {
                 || root instanceof IOException;
     }
 
-    private <T> T parseResponse(String jsonResponse, Class<T> clazz) {
-        try {
-            String generatedText = extractTextFromResponse(jsonResponse);
-            String jsonOnly = extractFirstJsonObject(generatedText);
-            JsonNode jsonNode = objectMapper.readTree(jsonOnly);
-            return objectMapper.treeToValue(jsonNode, clazz);
+    /**
+     * 응답 버퍼를 Jackson 스트리밍 파서로 한 번만 읽어 생성 텍스트를 꺼내고,
+     * 텍스트 안의 JSON 객체를 중간 문자열/트리 없이 바로 DTO로 바인딩한다.
+     */
+    <T> T decodeResponse(DataBuffer body, Class<T> clazz) {
+        try (InputStream inputStream = body.asInputStream(true);
+             JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            String generatedText = extractTextFromResponse(parser);
+            return bindFirstJsonObject(generatedText, clazz);
         } catch (Exception e) {
             throw new GenerateApiException("AI 응답 파싱 중 오류", e);
         }
     }
 
-    static String extractFirstJsonObject(String rawText) {
-        if (rawText == null || rawText.isBlank()) {
+    private <T> T bindFirstJsonObject(String generatedText, Class<T> clazz) throws IOException {
+        if (generatedText == null || generatedText.isBlank()) {
             throw new GenerateApiException("AI 응답 본문이 비어 있습니다.");
         }
 
-        String text = rawText.trim();
-        if (!text.isEmpty() && text.charAt(0) == '\uFEFF') {
-            text = text.substring(1);
-        }
-
-        int firstBraceIndex = text.indexOf('{');
+        int firstBraceIndex = generatedText.indexOf('{');
         if (firstBraceIndex < 0) {
             throw new GenerateApiException("AI 응답에서 JSON 객체 시작('{')을 찾지 못했습니다.");
         }
 
-        boolean inString = false;
-        boolean escaping = false;
-        int depth = 0;
-        int start = -1;
-
-        for (int i = firstBraceIndex; i < text.length(); i++) {
-            char ch = text.charAt(i);
-
-            if (inString) {
-                if (escaping) {
-                    escaping = false;
-                    continue;
-                }
-                if (ch == '\\') {
-                    escaping = true;
-                    continue;
-                }
-                if (ch == '"') {
-                    inString = false;
-                }
-                continue;
-            }
-
-            if (ch == '"') {
-                inString = true;
-                continue;
-            }
+        // 첫 '{'부터 읽어 객체 하나만 바인딩하고 뒤따르는 코드 펜스/설명은 읽지 않는다
+        Reader reader = new StringReader(generatedText);
+        reader.skip(firstBraceIndex);
+        try (JsonParser parser = objectMapper.getFactory().createParser(reader)) {
+            return objectMapper.readerFor(clazz).readValue(parser);
+        }
+    }
 
-            if (ch == '{') {
-                if (depth == 0) {
-                    start = i;
-                }
-                depth++;
-                continue;
-            }
+    private <T> T bindJson(String json, Class<T> clazz) {
+        try {
+            return objectMapper.readValue(json, clazz);
+        } catch (Exception e) {
+            throw new GenerateApiException("AI 응답 파싱 중 오류", e);
+        }
+    }
 
-            if (ch == '}') {
-                if (depth == 0) {
-                    continue;
-                }
-                depth--;
-                if (depth == 0 && start >= 0) {
-                    return text.substring(start, i + 1).trim();
-                }
-            }
+    static String extractFirstJsonObject(String rawText) {
+        if (rawText == null || rawText.isBlank()) {
+            throw new GenerateApiException("AI 응답 본문이 비어 있습니다.");
         }
 
+        IncrementalJsonObjectExtractor extractor = new IncrementalJsonObjectExtractor();
+        String json = extractor.append(rawText);
+        if (json != null) {
+            return json;
+        }
+        if (!extractor.isStarted()) {
+            throw new GenerateApiException("AI 응답에서 JSON 객체 시작('{')을 찾지 못했습니다.");
+        }
         throw new GenerateApiException("AI 응답에서 완전한 JSON 객체를 찾지 못했습니다.");
     }
 
@@ -227,9 +572,32 @@ public abstract class AbstractGenerationService implements AiProviderService {
         return root == null ? throwable : root;
     }
 
+    /**
+     * API 키 등 호출에 필요한 설정이 갖춰졌는지 여부. false면 라우팅 대상에서 제외된다.
+     */
+    protected boolean isConfigured() {
+        return true;
+    }
+
+    /**
+     * 지표 태그/로그에 사용할 제공자 이름
+     */
+    protected String getProviderName() {
+        return getClass().getSimpleName();
+    }
+
     protected abstract String getApiUrl();
 
     protected abstract HttpEntity<Object> createRequestEntity(String prompt);
 
     protected abstract String extractTextFromResponse(String jsonResponse) throws Exception;
+
+    /**
+     * 스트리밍 파서에서 생성 텍스트를 꺼낸다.
+     * 기본 구현은 트리로 읽은 뒤 문자열 기반 메서드에 위임하므로, 제공자별로 토큰 단위 탐색을 구현하는 것을 권장한다.
+     */
+    protected String extractTextFromResponse(JsonParser parser) throws Exception {
+        JsonNode root = objectMapper.readTree(parser);
+        return extractTextFromResponse(root == null ? "" : root.toString());
+    }
 }
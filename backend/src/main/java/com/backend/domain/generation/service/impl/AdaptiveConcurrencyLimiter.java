@@ -0,0 +1,332 @@
+package com.backend.domain.generation.service.impl;
+
+import com.backend.domain.generation.async.FairQueue;
+import com.backend.domain.generation.async.WorkPriority;
+import com.backend.domain.member.entity.Role;
+import com.backend.global.exception.GenerateApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 상류 AI 호출 동시성 한도를 응답 상태에 맞춰 자동 조절하는 리미터 (AIMD + 지연 기반 감소)
+ * - 지연이 기준치(관측 최소 지연 x 허용 배수) 이내로 유지되면 한도를 조금씩 늘린다. (가산 증가)
+ * - 429/5xx/타임아웃이 오거나 지연이 부풀면 한도를 비율로 줄인다. (승산 감소)
+ * - LLM 지연은 부하보다 출력 길이를 따르므로, 지연 기준치는 호출 종류(인증번호/메인 스펙 등)별로 따로 둔다.
+ *   짧은 호출과 긴 호출이 섞여도 긴 호출의 지연을 부하로 오인하지 않는다.
+ * - 한도를 넘는 호출은 대기열에서 기다리고, 대기열도 가득 차면 즉시 거절한다.
+ *   대기열은 요청자 플랜 가중치 + 회원별 공정 순서로 허가한다. ({@link FairQueue})
+ * - 취소로 반납된 허가는 다음 대기자에게 바로 넘기지 않고 handoffScheduler의 다음 틱에 넘긴다.
+ *   여러 호출이 한꺼번에 취소될 때, 곧 취소될 대기자가 넘겨받은 허가로 상류 요청부터 보내지 않게 한다.
+ */
+class AdaptiveConcurrencyLimiter {
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double LATENCY_SMOOTHING = 0.1;
+    // 관측 최소 지연은 주기적으로 초기화해 상류 상태 변화(모델 교체 등)를 다시 학습한다
+    private static final int MIN_LATENCY_RESET_INTERVAL = 1_000;
+    static final String DEFAULT_OPERATION = "default";
+
+    enum Outcome {
+        SUCCESS,  // 정상 응답: 지연을 반영해 한도를 조정
+        OVERLOAD, // 429/5xx/타임아웃: 한도 감소
+        IGNORE,   // 클라이언트 오류 등 상류 용량과 무관한 결과
+        CANCELLED // 호출자 취소/헤징 패배: IGNORE와 같지만 다음 대기자 허가를 다음 틱으로 미룬다
+    }
+
+    private final String provider;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueueSize;
+    private final double latencyTolerance;
+    private final Scheduler handoffScheduler;
+    private final FairQueue<Waiter> waiters = new FairQueue<>();
+
+    private double limit;
+    private int inFlight = 0;
+    private final Map<String, LatencyBaseline> baselines = new HashMap<>();
+    private final LongSupplier nanoClock;
+
+    private final Counter rejectedCounter;
+    // 플랜별 대기 시간 Timer. 허가할 때마다 등록/조회하지 않도록 미리 만들어 둔다.
+    private final Map<Role, Timer> queueWaitTimers = new EnumMap<>(Role.class);
+    private final Timer internalQueueWaitTimer;
+
+    AdaptiveConcurrencyLimiter(
+            String provider,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            int maxQueueSize,
+            double latencyTolerance,
+            MeterRegistry meterRegistry
+    ) {
+        this(provider, initialLimit, minLimit, maxLimit, maxQueueSize, latencyTolerance, meterRegistry,
+                Schedulers.parallel(), System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(
+            String provider,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            int maxQueueSize,
+            double latencyTolerance,
+            MeterRegistry meterRegistry,
+            Scheduler handoffScheduler,
+            LongSupplier nanoClock
+    ) {
+        this.provider = provider;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueueSize = maxQueueSize;
+        this.latencyTolerance = latencyTolerance;
+        this.handoffScheduler = handoffScheduler;
+        this.nanoClock = nanoClock;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+
+        Gauge.builder("generation.ai.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("AI 호출 동시성 한도")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("generation.ai.concurrency.in-flight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("진행 중인 AI 호출 수")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        Gauge.builder("generation.ai.concurrency.queue", this, AdaptiveConcurrencyLimiter::getQueueSize)
+                .description("동시성 한도로 대기 중인 AI 호출 수")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("generation.ai.concurrency.rejected")
+                .description("대기열 초과/대기 시간 초과로 거절된 AI 호출 수")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        for (Role plan : Role.values()) {
+            queueWaitTimers.put(plan, queueWaitTimer(meterRegistry, plan.name()));
+        }
+        this.internalQueueWaitTimer = queueWaitTimer(meterRegistry, "INTERNAL");
+    }
+
+    private Timer queueWaitTimer(MeterRegistry meterRegistry, String tier) {
+        return Timer.builder("generation.ai.concurrency.queue.wait")
+                .description("AI 호출이 동시성 한도로 대기한 시간")
+                .tag("provider", provider)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+
+    Mono<Permit> acquire(Duration maxQueueWait) {
+        return acquire(maxQueueWait, null);
+    }
+
+    /**
+     * 호출 허가를 받는다. 한도 이내면 즉시, 아니면 대기열 순서대로 허가되며 최대 maxQueueWait까지 기다린다.
+     * priority가 없으면(내부 호출 등) 우선순위 있는 대기자보다 먼저 허가한다.
+     */
+    Mono<Permit> acquire(Duration maxQueueWait, WorkPriority priority) {
+        return acquire(maxQueueWait, priority, DEFAULT_OPERATION);
+    }
+
+    /**
+     * operation: 지연 기준치를 나누는 호출 종류. 같은 종류끼리만 지연을 비교한다.
+     */
+    Mono<Permit> acquire(Duration maxQueueWait, WorkPriority priority, String operation) {
+        return Mono.<Permit>create(sink -> {
+                    Permit granted = null;
+                    boolean rejected = false;
+                    synchronized (this) {
+                        if (inFlight < currentLimit()) {
+                            inFlight++;
+                            granted = new Permit(operation);
+                        } else if (waiters.size() < maxQueueSize) {
+                            Waiter waiter = new Waiter(sink, priority, operation, System.nanoTime());
+                            waiters.add(waiter, priority);
+                            sink.onCancel(() -> cancelWaiter(waiter));
+                        } else {
+                            rejected = true;
+                        }
+                    }
+
+                    if (granted != null) {
+                        sink.success(granted);
+                    } else if (rejected) {
+                        rejectedCounter.increment();
+                        sink.error(new GenerateApiException("AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+                    }
+                })
+                // 대기 중 취소된 뒤 허가가 도착하면 버려지므로 즉시 반납
+                .doOnDiscard(Permit.class, permit -> permit.release(Outcome.CANCELLED))
+                .timeout(maxQueueWait, Mono.defer(() -> {
+                    rejectedCounter.increment();
+                    return Mono.error(new GenerateApiException("AI 요청 대기 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."));
+                }));
+    }
+
+    /**
+     * 대기 중이면 대기열에서 빼고, 허가를 넘겨받기 직전(다음 틱 대기)이면 그 허가를 바로 반납한다.
+     */
+    private void cancelWaiter(Waiter waiter) {
+        Permit pending;
+        synchronized (this) {
+            if (waiters.remove(waiter)) {
+                return;
+            }
+            pending = waiter.pendingPermit;
+            waiter.pendingPermit = null;
+        }
+        if (pending != null) {
+            pending.release(Outcome.CANCELLED);
+        }
+    }
+
+    private void onRelease(Outcome outcome, String operation, long latencyNanos) {
+        List<Waiter> toGrant = new ArrayList<>();
+        synchronized (this) {
+            inFlight--;
+            adjustLimit(outcome, operation, latencyNanos);
+            while (inFlight < currentLimit() && !waiters.isEmpty()) {
+                inFlight++;
+                Waiter waiter = waiters.poll();
+                waiter.pendingPermit = new Permit(waiter.operation);
+                toGrant.add(waiter);
+            }
+        }
+        if (outcome == Outcome.CANCELLED) {
+            // 같은 흐름에서 이어서 취소될 대기자가 허가를 받자마자 상류 요청을 보내지 않도록 다음 틱에 넘긴다
+            toGrant.forEach(waiter -> handoffScheduler.schedule(() -> grant(waiter)));
+            return;
+        }
+        // 허가 통지는 하위 구독(HTTP 요청 시작)을 동기 실행하므로 락 밖에서 수행
+        toGrant.forEach(this::grant);
+    }
+
+    private void grant(Waiter waiter) {
+        Permit permit;
+        synchronized (this) {
+            permit = waiter.pendingPermit;
+            waiter.pendingPermit = null;
+        }
+        if (permit == null) {
+            // 넘겨받기 전에 취소됨 (허가는 취소 시점에 반납)
+            return;
+        }
+        Timer queueWaitTimer = waiter.priority == null
+                ? internalQueueWaitTimer
+                : queueWaitTimers.get(waiter.priority.plan());
+        queueWaitTimer.record(System.nanoTime() - waiter.enqueuedNanos, TimeUnit.NANOSECONDS);
+        waiter.sink.success(permit);
+    }
+
+    private void adjustLimit(Outcome outcome, String operation, long latencyNanos) {
+        if (outcome == Outcome.OVERLOAD) {
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+            return;
+        }
+        if (outcome != Outcome.SUCCESS) {
+            return;
+        }
+
+        LatencyBaseline baseline = baselines.computeIfAbsent(operation, key -> new LatencyBaseline());
+        if (baseline.update(latencyNanos) > baseline.minLatencyNanos * latencyTolerance) {
+            // 지연이 부풀었다면 상류 큐잉이 시작된 것으로 보고 한도를 줄인다
+            limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+        } else if (inFlight + 1 >= currentLimit() / 2) {
+            // 한도를 실제로 활용하고 있을 때만 증가 (한도 1회전당 약 +1)
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+
+    synchronized double getLimit() {
+        return limit;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    synchronized int getQueueSize() {
+        return waiters.size();
+    }
+
+    String getProvider() {
+        return provider;
+    }
+
+    /**
+     * 대기자. pendingPermit은 허가가 배정됐지만 아직 넘겨받지 않은 상태이며 리미터 락으로 보호한다.
+     */
+    private static final class Waiter {
+        private final MonoSink<Permit> sink;
+        private final WorkPriority priority;
+        private final String operation;
+        private final long enqueuedNanos;
+        private Permit pendingPermit;
+
+        private Waiter(MonoSink<Permit> sink, WorkPriority priority, String operation, long enqueuedNanos) {
+            this.sink = sink;
+            this.priority = priority;
+            this.operation = operation;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+
+    /**
+     * 호출 종류 하나의 지연 기준치 (관측 최소 지연 + 평활 지연)
+     */
+    private static final class LatencyBaseline {
+        private long minLatencyNanos = 0;
+        private double smoothedLatencyNanos = 0;
+        private int samplesSinceMinReset = 0;
+
+        /**
+         * 지연 표본을 반영하고 평활 지연을 반환한다.
+         */
+        private double update(long latencyNanos) {
+            if (minLatencyNanos == 0 || latencyNanos < minLatencyNanos || ++samplesSinceMinReset >= MIN_LATENCY_RESET_INTERVAL) {
+                minLatencyNanos = latencyNanos;
+                samplesSinceMinReset = 0;
+            }
+            smoothedLatencyNanos = smoothedLatencyNanos == 0
+                    ? latencyNanos
+                    : smoothedLatencyNanos + LATENCY_SMOOTHING * (latencyNanos - smoothedLatencyNanos);
+            return smoothedLatencyNanos;
+        }
+    }
+
+    /**
+     * 호출 허가. 결과와 함께 정확히 한 번 반납해야 한다. (중복 반납은 무시)
+     */
+    final class Permit {
+        private final String operation;
+        private final long acquiredAtNanos = nanoClock.getAsLong();
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit(String operation) {
+            this.operation = operation;
+        }
+
+        void release(Outcome outcome) {
+            if (released.compareAndSet(false, true)) {
+                onRelease(outcome, operation, nanoClock.getAsLong() - acquiredAtNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.backend.domain.generation.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AI 제공자별 서킷 브레이커 상태를 actuator health(aiProvider)에 노출한다.
+ * 서킷이 열려도 애플리케이션 자체는 정상이므로 상태는 UP으로 두고 상세 정보로만 알린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AiProviderHealthIndicator implements HealthIndicator {
+    private final List<AbstractGenerationService> providers;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = Health.up();
+        for (AbstractGenerationService provider : providers) {
+            ProviderCircuitBreaker breaker = provider.circuitBreaker();
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("state", breaker.getState().name());
+            details.put("failureRate", breaker.getFailureRate());
+            details.put("slowCallRate", breaker.getSlowCallRate());
+            builder.withDetail(breaker.getProvider(), details);
+        }
+        return builder.build();
+    }
+}
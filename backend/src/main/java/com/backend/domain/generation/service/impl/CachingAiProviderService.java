@@ -0,0 +1,132 @@
+package com.backend.domain.generation.service.impl;
+
+import com.backend.domain.generation.async.Cancellation;
+import com.backend.domain.generation.dto.CertificationResponse;
+import com.backend.domain.generation.dto.GenerateElectronicResponse;
+import com.backend.domain.generation.dto.GenerateNonElectronicResponse;
+import com.backend.domain.generation.service.AiProviderService;
+import com.backend.domain.member.entity.Role;
+import com.backend.global.util.ModelNameNormalizer;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AI 제공자 앞단의 결과 캐시 계층
+ * 메인 스펙은 (정규화된 모델명 + 규격 예시 + 물품명 예시) 조합이 같으면 같은 결과로 보고 캐시에서 응답한다.
+ */
+@Slf4j
+@Service
+@Primary
+public class CachingAiProviderService implements AiProviderService {
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final AiProviderService delegate;
+    private final Cache<String, GenerateElectronicResponse> mainSpecCache;
+
+    public CachingAiProviderService(
+            @Qualifier("routingAiProviderService") AiProviderService delegate,
+            Cache<String, GenerateElectronicResponse> mainSpecCache
+    ) {
+        this.delegate = delegate;
+        this.mainSpecCache = mainSpecCache;
+    }
+
+    @Override
+    public CompletableFuture<GenerateElectronicResponse> fetchMainSpec(
+            String model,
+            String specExample,
+            String productNameExample
+    ) {
+        return fetchMainSpec(model, specExample, productNameExample, null);
+    }
+
+    @Override
+    public CompletableFuture<GenerateElectronicResponse> fetchMainSpec(
+            String model,
+            String specExample,
+            String productNameExample,
+            Role plan
+    ) {
+        String cacheKey = mainSpecCacheKey(model, specExample, productNameExample);
+        GenerateElectronicResponse cached = mainSpecCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            log.info("메인 스펙 캐시 적중: model={}", model);
+            // 호출부에서 인증번호/G2B 정보를 채워 넣으므로 캐시 원본 대신 복사본을 반환
+            return CompletableFuture.completedFuture(cached.copy());
+        }
+
+        CompletableFuture<GenerateElectronicResponse> call = delegate.fetchMainSpec(model, specExample, productNameExample, plan);
+        // 호출부가 취소하면 상류 호출까지 취소되도록 원본 Future에 전달
+        return Cancellation.propagate(call.thenApply(response -> {
+            // 실패한 호출은 캐시하지 않고, 성공 결과만 원본 상태로 보관
+            mainSpecCache.put(cacheKey, response.copy());
+            return response;
+        }), call);
+    }
+
+    @Override
+    public CompletableFuture<GenerateElectronicResponse> fetchMainSpecWithCertification(
+            String model,
+            String specExample,
+            String productNameExample,
+            Role plan
+    ) {
+        // 통합 결과는 인증번호까지 담고 있어 분리 모드의 메인 스펙 캐시와 키를 나눈다
+        String cacheKey = fusedSpecCacheKey(model, specExample, productNameExample);
+        GenerateElectronicResponse cached = mainSpecCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            log.info("메인 스펙(통합) 캐시 적중: model={}", model);
+            return CompletableFuture.completedFuture(cached.copy());
+        }
+
+        CompletableFuture<GenerateElectronicResponse> call =
+                delegate.fetchMainSpecWithCertification(model, specExample, productNameExample, plan);
+        return Cancellation.propagate(call.thenApply(response -> {
+            mainSpecCache.put(cacheKey, response.copy());
+            return response;
+        }), call);
+    }
+
+    @Override
+    public CompletableFuture<CertificationResponse> fetchCertification(String model) {
+        return delegate.fetchCertification(model);
+    }
+
+    @Override
+    public CompletableFuture<CertificationResponse> fetchCertification(String model, Role plan) {
+        return delegate.fetchCertification(model, plan);
+    }
+
+    @Override
+    public CompletableFuture<GenerateNonElectronicResponse> fetchGeneralSpec(String productName, String specExample) {
+        return delegate.fetchGeneralSpec(productName, specExample);
+    }
+
+    @Override
+    public CompletableFuture<GenerateNonElectronicResponse> fetchGeneralSpec(
+            String productName,
+            String specExample,
+            Role plan
+    ) {
+        return delegate.fetchGeneralSpec(productName, specExample, plan);
+    }
+
+    static String mainSpecCacheKey(String model, String specExample, String productNameExample) {
+        return ModelNameNormalizer.normalize(model)
+                + KEY_SEPARATOR + trimToEmpty(specExample)
+                + KEY_SEPARATOR + trimToEmpty(productNameExample);
+    }
+
+    static String fusedSpecCacheKey(String model, String specExample, String productNameExample) {
+        return "fused" + KEY_SEPARATOR + mainSpecCacheKey(model, specExample, productNameExample);
+    }
+
+    private static String trimToEmpty(String value) {
+        return value == null ? "" : value.trim();
+    }
+}
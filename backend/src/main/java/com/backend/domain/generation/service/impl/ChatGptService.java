@@ -0,0 +1,104 @@
+package com.backend.domain.generation.service.impl;
+
+import com.backend.global.exception.GenerateApiException;
+import com.backend.global.util.PromptBuilder;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class ChatGptService extends AbstractGenerationService {
+    @Value("${chatgpt.api.url:https://api.openai.com/v1/chat/completions}")
+    private String apiUrl;
+
+    // 키가 없으면 라우팅 대상에서 제외되어 Gemini 단독으로 동작
+    @Value("${chatgpt.api.key:}")
+    private String apiKey;
+
+    @Value("${chatgpt.generation.model:gpt-4o-search-preview}")
+    private String model;
+
+    @Value("${chatgpt.generation.max-output-tokens:8192}")
+    private int maxOutputTokens;
+
+    public ChatGptService(
+            PromptBuilder promptBuilder,
+            ObjectMapper objectMapper,
+            WebClient webClient,
+            MeterRegistry meterRegistry
+    ) {
+        super(promptBuilder, objectMapper, webClient, meterRegistry);
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private record ChatRequest(
+            String model,
+            List<Message> messages,
+            @JsonProperty("max_completion_tokens") int maxCompletionTokens,
+            @JsonProperty("web_search_options") Map<String, Object> webSearchOptions
+    ) {
+    }
+
+    private record Message(String role, String content) {
+    }
+
+    @Override
+    protected String getProviderName() {
+        return "chatgpt";
+    }
+
+    @Override
+    protected boolean isConfigured() {
+        return StringUtils.hasText(apiKey);
+    }
+
+    @Override
+    protected String getApiUrl() {
+        return apiUrl;
+    }
+
+    @Override
+    protected HttpEntity<Object> createRequestEntity(String prompt) {
+        // 검색 모델에서만 웹 검색 옵션을 켠다 (Gemini의 google_search 도구에 대응)
+        Map<String, Object> webSearchOptions = model.contains("search") ? Map.of() : null;
+        ChatRequest requestBody = new ChatRequest(
+                model,
+                List.of(new Message("user", prompt)),
+                maxOutputTokens,
+                webSearchOptions
+        );
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(apiKey);
+        return new HttpEntity<>(requestBody, headers);
+    }
+
+    @Override
+    protected String extractTextFromResponse(String jsonResponse) throws Exception {
+        JsonNode root = objectMapper.readTree(jsonResponse);
+
+        JsonNode choices = root.path("choices");
+        if (!choices.isArray() || choices.isEmpty()) {
+            throw new GenerateApiException("ChatGPT 응답에 'choices' 필드가 없거나 비어있습니다. 응답: " + jsonResponse);
+        }
+
+        JsonNode content = choices.get(0).path("message").path("content");
+        if (!content.isTextual() || !StringUtils.hasText(content.asText())) {
+            throw new GenerateApiException("ChatGPT 응답에 'content' 필드가 없습니다.");
+        }
+        return content.asText().trim();
+    }
+}
@@ -0,0 +1,139 @@
+package com.backend.domain.generation.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Gemini 컨텍스트 캐시(cachedContents) 핸들 관리
+ * 프롬프트의 고정 지시문을 캐시로 등록해 두고, 요청에는 캐시 이름과 가변 부분만 담도록 한다.
+ * - 핸들이 없거나 만료가 가까우면 백그라운드에서 새로 등록하고, 그동안 요청은 전체 프롬프트로 보낸다. (요청을 막지 않음)
+ * - 등록에 실패하면(최소 토큰 수 미달 등) 일정 시간 동안 재시도하지 않고 전체 프롬프트를 사용한다.
+ */
+@Slf4j
+class GeminiContextCache {
+    // 응답 생성 중 캐시가 만료되지 않도록 만료 직전 핸들은 사용하지 않는다
+    private static final Duration EXPIRY_SAFETY_MARGIN = Duration.ofSeconds(30);
+
+    private final WebClient webClient;
+    private final String cacheUrl;
+    private final String model;
+    private final Object tools;
+    private final Duration ttl;
+    private final Duration refreshBefore;
+    private final Duration failureBackoff;
+    private final Clock clock;
+    private final List<String> prefixes;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    GeminiContextCache(
+            WebClient webClient,
+            String cacheUrl,
+            String model,
+            Object tools,
+            Duration ttl,
+            Duration refreshBefore,
+            Duration failureBackoff,
+            List<String> prefixes,
+            Clock clock
+    ) {
+        this.webClient = webClient;
+        this.cacheUrl = cacheUrl;
+        this.model = model;
+        this.tools = tools;
+        this.ttl = ttl;
+        this.refreshBefore = refreshBefore;
+        this.failureBackoff = failureBackoff;
+        this.prefixes = prefixes;
+        this.clock = clock;
+    }
+
+    record CachedPrompt(String cacheName, String variablePart) {
+    }
+
+    /**
+     * 프롬프트가 등록 대상 고정 지시문으로 시작하고 유효한 캐시 핸들이 있으면 (캐시 이름, 가변 부분)을 반환한다.
+     * 핸들이 없거나 만료가 가까우면 갱신을 시작하며, 당장 쓸 핸들이 없으면 null을 반환한다.
+     */
+    CachedPrompt resolve(String prompt) {
+        for (String prefix : prefixes) {
+            if (prompt.startsWith(prefix)) {
+                String cacheName = handleFor(prefix);
+                return cacheName == null ? null : new CachedPrompt(cacheName, prompt.substring(prefix.length()));
+            }
+        }
+        return null;
+    }
+
+    private String handleFor(String prefix) {
+        Entry entry = entries.computeIfAbsent(prefix, key -> new Entry());
+        Instant now = clock.instant();
+        Handle handle = entry.handle;
+
+        boolean needsRefresh = handle == null || !now.isBefore(handle.expiresAt().minus(refreshBefore));
+        if (needsRefresh && !now.isBefore(entry.retryAfter)) {
+            refresh(prefix, entry);
+        }
+
+        boolean usable = handle != null && now.isBefore(handle.expiresAt().minus(EXPIRY_SAFETY_MARGIN));
+        return usable ? handle.name() : null;
+    }
+
+    private void refresh(String prefix, Entry entry) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        Map<String, Object> body = Map.of(
+                "model", model,
+                "contents", List.of(Map.of("role", "user", "parts", List.of(Map.of("text", prefix)))),
+                "tools", tools,
+                "ttl", ttl.toSeconds() + "s"
+        );
+
+        webClient.post()
+                .uri(cacheUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .doFinally(signal -> entry.refreshing.set(false))
+                .subscribe(
+                        response -> {
+                            String name = response.path("name").asText("");
+                            String expireTime = response.path("expireTime").asText("");
+                            if (name.isEmpty() || expireTime.isEmpty()) {
+                                onFailure(entry, "응답에 name/expireTime이 없습니다.");
+                                return;
+                            }
+                            entry.handle = new Handle(name, Instant.parse(expireTime));
+                            log.info("Gemini 컨텍스트 캐시 등록: name={}, expireTime={}, prefixLength={}",
+                                    name, expireTime, prefix.length());
+                        },
+                        error -> onFailure(entry, error.getMessage())
+                );
+    }
+
+    private void onFailure(Entry entry, String reason) {
+        entry.retryAfter = clock.instant().plus(failureBackoff);
+        log.warn("Gemini 컨텍스트 캐시 등록 실패, 전체 프롬프트로 전송: retryAfter={}, error={}", entry.retryAfter, reason);
+    }
+
+    private record Handle(String name, Instant expiresAt) {
+    }
+
+    private static final class Entry {
+        private volatile Handle handle;
+        private volatile Instant retryAfter = Instant.MIN;
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    }
+}
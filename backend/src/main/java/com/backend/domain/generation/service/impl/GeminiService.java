@@ -3,10 +3,12 @@ package com.backend.domain.generation.service.impl;
 import com.backend.global.exception.GenerateApiException;
 import com.backend.global.util.PromptBuilder;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Primary;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -14,12 +16,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
 @Service
-@Primary
-public class GeminiService extends AbstractGenerationService {
+public class GeminiService extends AbstractGenerationService implements StreamingAiProvider {
     @Value("${gemini.api.url}")
     private String apiUrl;
 
@@ -32,12 +36,34 @@ public class GeminiService extends AbstractGenerationService {
     @Value("${gemini.generation.max-output-tokens:8192}")
     private int maxOutputTokens;
 
-    public GeminiService(PromptBuilder promptBuilder, ObjectMapper objectMapper, WebClient webClient) {
-        super(promptBuilder, objectMapper, webClient);
+    // 고정 지시문을 컨텍스트 캐시로 등록해 요청마다 가변 부분만 전송 (입력 토큰/첫 토큰 지연 감소)
+    @Value("${gemini.context-cache.enabled:false}")
+    private boolean contextCacheEnabled = false;
+    @Value("${gemini.context-cache.ttl:1h}")
+    private Duration contextCacheTtl = Duration.ofHours(1);
+    @Value("${gemini.context-cache.refresh-before:10m}")
+    private Duration contextCacheRefreshBefore = Duration.ofMinutes(10);
+    @Value("${gemini.context-cache.failure-backoff:10m}")
+    private Duration contextCacheFailureBackoff = Duration.ofMinutes(10);
+
+    private GeminiContextCache contextCache;
+
+    public GeminiService(
+            PromptBuilder promptBuilder,
+            ObjectMapper objectMapper,
+            WebClient webClient,
+            MeterRegistry meterRegistry
+    ) {
+        super(promptBuilder, objectMapper, webClient, meterRegistry);
     }
 
     @JsonInclude(JsonInclude.Include.NON_NULL)
-    private record GeminiRequest(List<Content> contents, GenerationConfig generationConfig, List<Tool> tools) {
+    private record GeminiRequest(
+            List<Content> contents,
+            GenerationConfig generationConfig,
+            List<Tool> tools,
+            String cachedContent
+    ) {
     }
 
     private record Content(List<Part> parts) {
@@ -52,28 +78,77 @@ public class GeminiService extends AbstractGenerationService {
     private record Tool(Map<String, Object> google_search) {
     }
 
+    @Override
+    protected String getProviderName() {
+        return "gemini";
+    }
+
     @Override
     protected String getApiUrl() {
         return apiUrl + "?key=" + apiKey;
     }
 
+    @Override
+    public String getStreamApiUrl() {
+        // generateContent 엔드포인트와 같은 모델의 SSE 스트리밍 엔드포인트
+        String streamUrl = apiUrl.replace(":generateContent", ":streamGenerateContent");
+        return streamUrl + "?alt=sse&key=" + apiKey;
+    }
+
     @Override
     protected HttpEntity<Object> createRequestEntity(String prompt) {
         GenerationConfig config = new GenerationConfig(temperature, maxOutputTokens);
-        Content content = new Content(List.of(new Part(prompt)));
-        Tool googleSearch = new Tool(Map.of());
 
-        GeminiRequest requestBody = new GeminiRequest(
-                List.of(content),
-                config,
-                List.of(googleSearch)
-        );
+        GeminiContextCache.CachedPrompt cachedPrompt = contextCacheEnabled ? contextCache().resolve(prompt) : null;
+        GeminiRequest requestBody;
+        if (cachedPrompt != null) {
+            // 도구(google_search)는 캐시에 함께 등록되어 있어 요청에는 캐시 이름과 가변 부분만 담는다
+            requestBody = new GeminiRequest(
+                    List.of(new Content(List.of(new Part(cachedPrompt.variablePart())))),
+                    config,
+                    null,
+                    cachedPrompt.cacheName()
+            );
+        } else {
+            requestBody = new GeminiRequest(
+                    List.of(new Content(List.of(new Part(prompt)))),
+                    config,
+                    googleSearchTools(),
+                    null
+            );
+        }
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         return new HttpEntity<>(requestBody, headers);
     }
 
+    private static List<Tool> googleSearchTools() {
+        return List.of(new Tool(Map.of()));
+    }
+
+    private synchronized GeminiContextCache contextCache() {
+        // @Value 주입이 끝난 뒤 첫 호출 시점에 생성
+        if (contextCache == null) {
+            // .../v1beta/models/{model}:generateContent -> .../v1beta/cachedContents, models/{model}
+            int modelsIndex = apiUrl.indexOf("/models/");
+            String baseUrl = apiUrl.substring(0, modelsIndex);
+            String modelPath = apiUrl.substring(modelsIndex + 1, apiUrl.lastIndexOf(':'));
+            contextCache = new GeminiContextCache(
+                    webClient,
+                    baseUrl + "/cachedContents?key=" + apiKey,
+                    modelPath,
+                    googleSearchTools(),
+                    contextCacheTtl,
+                    contextCacheRefreshBefore,
+                    contextCacheFailureBackoff,
+                    promptBuilder.staticPromptPrefixes(),
+                    Clock.systemUTC()
+            );
+        }
+        return contextCache;
+    }
+
     @Override
     protected String extractTextFromResponse(String jsonResponse) throws Exception {
         JsonNode root = objectMapper.readTree(jsonResponse);
@@ -113,4 +188,91 @@ public class GeminiService extends AbstractGenerationService {
 
         return combinedText.toString();
     }
+
+    /**
+     * candidates[0].content.parts[*].text 경로만 토큰 단위로 따라가며 읽는다.
+     * 첫 후보의 parts를 다 읽으면 나머지(groundingMetadata, usageMetadata 등)는 파싱하지 않는다.
+     */
+    @Override
+    protected String extractTextFromResponse(JsonParser parser) throws Exception {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new GenerateApiException("Gemini 응답이 JSON 객체가 아닙니다.");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            if ("candidates".equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                return readFirstCandidateText(parser);
+            }
+            parser.skipChildren();
+        }
+        throw new GenerateApiException("Gemini 응답에 'candidates' 필드가 없거나 비어있습니다.");
+    }
+
+    private String readFirstCandidateText(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new GenerateApiException("Gemini 응답에 'candidates' 필드가 없거나 비어있습니다.");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            if ("content".equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+                return readContentText(parser);
+            }
+            parser.skipChildren();
+        }
+        throw new GenerateApiException("Gemini 응답에 'content' 필드가 없습니다.");
+    }
+
+    private String readContentText(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            if ("parts".equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                return readPartsText(parser);
+            }
+            parser.skipChildren();
+        }
+        throw new GenerateApiException("Gemini 응답에 'parts' 필드가 없거나 비어있습니다.");
+    }
+
+    private String readPartsText(JsonParser parser) throws IOException {
+        StringBuilder combinedText = new StringBuilder();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                if ("text".equals(fieldName) && valueToken == JsonToken.VALUE_STRING) {
+                    String partText = parser.getText();
+                    if (StringUtils.hasText(partText)) {
+                        if (!combinedText.isEmpty()) {
+                            combinedText.append('\n');
+                        }
+                        combinedText.append(partText.trim());
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        if (combinedText.isEmpty()) {
+            throw new GenerateApiException("Gemini 응답에 'text' 필드가 없습니다.");
+        }
+        return combinedText.toString();
+    }
+
+    @Override
+    public String extractTextFromStreamChunk(String chunkJson) throws Exception {
+        // 스트림 조각은 텍스트 일부만 담고 있고, 마지막 조각들은 grounding 메타데이터만 담을 수 있다
+        JsonNode parts = objectMapper.readTree(chunkJson)
+                .path("candidates").path(0)
+                .path("content").path("parts");
+
+        StringBuilder chunkText = new StringBuilder();
+        for (JsonNode part : parts) {
+            chunkText.append(part.path("text").asText(""));
+        }
+        return chunkText.toString();
+    }
 }
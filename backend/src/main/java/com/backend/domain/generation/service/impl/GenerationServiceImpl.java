@@ -1,6 +1,11 @@
 package com.backend.domain.generation.service.impl;
 
+import com.backend.domain.generation.async.Cancellation;
+import com.backend.domain.generation.async.FairPriorityExecutor;
+import com.backend.domain.generation.async.SingleFlight;
+import com.backend.domain.generation.async.WorkPriority;
 import com.backend.domain.generation.dto.CertificationResponse;
+import com.backend.domain.generation.dto.G2bProductInfo;
 import com.backend.domain.generation.dto.GenerateElectronicRequest;
 import com.backend.domain.generation.dto.GenerateElectronicResponse;
 import com.backend.domain.generation.dto.GenerateNonElectronicRequest;
@@ -10,28 +15,47 @@ import com.backend.domain.generation.service.GenerationService;
 import com.backend.domain.generation.service.ScrapingService;
 import com.backend.domain.log.event.GenerationLogEvent;
 import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.entity.Role;
 import com.backend.domain.member.service.MemberService;
+import com.backend.global.exception.TooManyRequestsException;
+import com.backend.global.util.ModelNameNormalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 
 @Service
 @Primary
 @RequiredArgsConstructor
 @Slf4j
 public class GenerationServiceImpl implements GenerationService {
+    // 실행 풀이 작업을 거절했을 때 안내할 재시도 대기 시간
+    private static final Duration EXECUTOR_REJECTED_RETRY_AFTER = Duration.ofSeconds(5);
+
     private final AiProviderService aiProviderService;
     private final ScrapingService scrapingService;
     private final MemberService memberService;
     private final Executor taskExecutor;
     private final ApplicationEventPublisher eventPublisher;
 
+    // 신제품 출시 직후처럼 같은 모델 요청이 몰릴 때 동일한 AI/스크래핑 호출을 하나로 합친다
+    private final SingleFlight<String, GenerateElectronicResponse> mainSpecFlight = new SingleFlight<>("main-spec");
+    private final SingleFlight<String, CertificationResponse> certificationFlight = new SingleFlight<>("certification");
+    private final SingleFlight<String, G2bProductInfo> g2bFlight = new SingleFlight<>("g2b");
+
+    // 메인 스펙과 인증번호를 통합 프롬프트 1회로 생성해 요청당 상류 AI 호출을 절반으로 줄인다
+    @Value("${generation.ai.fused-certification.enabled:false}")
+    private boolean fusedCertificationEnabled = false;
+
     @Override
     public CompletableFuture<GenerateElectronicResponse> generateSpec(GenerateElectronicRequest request, Member member) {
         final long requestStartNanos = System.nanoTime();
@@ -39,40 +63,127 @@ public class GenerationServiceImpl implements GenerationService {
         final String model = request.getModelName();
         final String specExample = request.getSpecExample();
         final String productNameExample = request.getProductNameExample();
+        final String modelKey = ModelNameNormalizer.normalize(model);
+        final Role plan = member.getRole();
+        final WorkPriority priority = WorkPriority.of(memberId, plan);
+        // 후속 단계가 실행 풀에서 거절되면 작업 Future를 429로 끝낸다. 완료 처리(환불/로그)는 거절되어도 반드시 실행한다.
+        final CompletableFuture<GenerateElectronicResponse> taskFuture = new CompletableFuture<>();
+        final Executor stageExecutor = failTaskOnRejection(stageExecutor(priority), taskFuture);
+        final Executor completionExecutor = callerRunsOnRejection(stageExecutor(priority));
 
         log.info("전자제품 생성 요청 시작: memberId={}, model={}", memberId, model);
         memberService.decrementCredit(memberId);
+        // 이 구간에서 시작되는 AI 호출은 요청자의 플랜/회원 순서로 대기한다
+        try (WorkPriority.Scope ignored = priority.enter()) {
+            // 분류번호와 원산지는 같은 G2B 검색 페이지에서 한 번에 추출한다
+            // 합쳐진 요청이 먼저 온 호출자의 표기에 따라 다른 결과를 받지 않도록, 검색도 정규화된 모델명으로 한다
+            final long g2bStartNanos = System.nanoTime();
+            CompletableFuture<G2bProductInfo> g2bCall = g2bFlight
+                    .execute(modelKey, () -> scrapingService.fetchG2bProductInfo(modelKey));
+            CompletableFuture<G2bProductInfo> g2bFuture = g2bCall
+                    .whenComplete((result, throwable) -> {
+                        long elapsedMs = elapsedMillis(g2bStartNanos);
+                        if (throwable == null) {
+                            log.info("단계 완료 - G2B 상품정보 조회: memberId={}, model={}, elapsedMs={}, classificationFound={}, countryFound={}",
+                                    memberId, model, elapsedMs,
+                                    result.classificationNumber().isPresent(), result.countryOfOrigin().isPresent());
+                        } else {
+                            log.warn("단계 실패 - G2B 상품정보 조회: memberId={}, model={}, elapsedMs={}, error={}",
+                                    memberId, model, elapsedMs, rootMessage(throwable));
+                        }
+                    });
 
-        final long g2bStartNanos = System.nanoTime();
-        CompletableFuture<Optional<String>> g2bFuture = CompletableFuture.supplyAsync(
-                        () -> scrapingService.findG2bClassificationNumber(model), taskExecutor)
-                .whenComplete((result, throwable) -> {
-                    long elapsedMs = elapsedMillis(g2bStartNanos);
-                    if (throwable == null) {
-                        log.info("단계 완료 - G2B 분류번호 조회: memberId={}, model={}, elapsedMs={}, found={}",
-                                memberId, model, elapsedMs, result != null && result.isPresent());
-                    } else {
-                        log.warn("단계 실패 - G2B 분류번호 조회: memberId={}, model={}, elapsedMs={}, error={}",
-                                memberId, model, elapsedMs, rootMessage(throwable));
-                    }
-                });
+            CompletableFuture<GenerateElectronicResponse> specFuture = fusedCertificationEnabled
+                    ? fetchFusedSpec(memberId, model, specExample, productNameExample, plan)
+                    : fetchSplitSpec(memberId, model, modelKey, specExample, productNameExample, plan, stageExecutor);
 
-        final long countryStartNanos = System.nanoTime();
-        CompletableFuture<Optional<String>> countryFuture = CompletableFuture.supplyAsync(
-                        () -> scrapingService.findCountryOfOrigin(model), taskExecutor)
-                .whenComplete((result, throwable) -> {
-                    long elapsedMs = elapsedMillis(countryStartNanos);
-                    if (throwable == null) {
-                        log.info("단계 완료 - 원산지 조회: memberId={}, model={}, elapsedMs={}, found={}",
-                                memberId, model, elapsedMs, result != null && result.isPresent());
-                    } else {
-                        log.warn("단계 실패 - 원산지 조회: memberId={}, model={}, elapsedMs={}, error={}",
-                                memberId, model, elapsedMs, rootMessage(throwable));
-                    }
-                });
+            CompletableFuture<GenerateElectronicResponse> combinedFuture = specFuture
+                    .thenCombineAsync(g2bFuture, (mainSpec, g2bInfo) -> {
+                        g2bInfo.classificationNumber().ifPresent(mainSpec::setG2bClassificationNumber);
+                        g2bInfo.countryOfOrigin().ifPresent(mainSpec::setCountryOfOrigin);
+                        return mainSpec;
+                    }, stageExecutor);
+            completeInto(combinedFuture, taskFuture);
+            // 작업이 취소되면(작업 취소 API 등) 진행 중인 AI 호출과 스크래핑까지 취소한다
+            Cancellation.propagate(taskFuture, specFuture, g2bCall);
+        } catch (RuntimeException e) {
+            throw refundOnStartFailure(memberId, e);
+        }
+
+        taskFuture.whenCompleteAsync((result, throwable) -> {
+            long totalElapsedMs = elapsedMillis(requestStartNanos);
+            if (throwable != null) {
+                log.warn("전자제품 생성 실패. 크레딧 환불. memberId={}, model={}, totalElapsedMs={}, error={}",
+                        memberId, model, totalElapsedMs, rootMessage(throwable));
+                memberService.restoreCredit(memberId);
+            } else {
+                log.info("전자제품 생성 완료: memberId={}, model={}, totalElapsedMs={}",
+                        memberId, model, totalElapsedMs);
+            }
+            eventPublisher.publishEvent(new GenerationLogEvent(member, request, result, throwable));
+        }, completionExecutor);
+
+        return startedOrThrow(taskFuture);
+    }
+
+    @Override
+    public CompletableFuture<GenerateNonElectronicResponse> generateGeneralSpec(
+            GenerateNonElectronicRequest request,
+            Member member
+    ) {
+        final long requestStartNanos = System.nanoTime();
+        final Long memberId = member.getMemberId();
+        final String productName = request.getProductName();
+        final WorkPriority priority = WorkPriority.of(memberId, member.getRole());
+        // 후속 단계가 실행 풀에서 거절되면 작업 Future를 429로 끝낸다. 완료 처리(환불/로그)는 거절되어도 반드시 실행한다.
+        final CompletableFuture<GenerateNonElectronicResponse> taskFuture = new CompletableFuture<>();
+        final Executor stageExecutor = failTaskOnRejection(stageExecutor(priority), taskFuture);
+        final Executor completionExecutor = callerRunsOnRejection(stageExecutor(priority));
+
+        log.info("비전자제품 생성 요청 시작: memberId={}, productName={}", memberId, productName);
+        memberService.decrementCredit(memberId);
+        try (WorkPriority.Scope ignored = priority.enter()) {
+            CompletableFuture<GenerateNonElectronicResponse> future = aiProviderService
+                    .fetchGeneralSpec(productName, request.getSpecExample(), member.getRole());
+            // AI 응답 이후 처리는 네트워크 스레드가 아닌 실행 풀에서 이어간다
+            completeInto(future.thenApplyAsync(Function.identity(), stageExecutor), taskFuture);
+            Cancellation.propagate(taskFuture, future);
+        } catch (RuntimeException e) {
+            throw refundOnStartFailure(memberId, e);
+        }
+
+        taskFuture.whenCompleteAsync((result, throwable) -> {
+            long totalElapsedMs = elapsedMillis(requestStartNanos);
+            if (throwable != null) {
+                log.warn("비전자제품 생성 실패. 크레딧 환불. memberId={}, productName={}, totalElapsedMs={}, error={}",
+                        memberId, productName, totalElapsedMs, rootMessage(throwable));
+                memberService.restoreCredit(memberId);
+            } else {
+                log.info("비전자제품 생성 완료: memberId={}, productName={}, totalElapsedMs={}",
+                        memberId, productName, totalElapsedMs);
+            }
+            eventPublisher.publishEvent(new GenerationLogEvent(member, request, result, throwable));
+        }, completionExecutor);
 
+        return startedOrThrow(taskFuture);
+    }
+
+    /**
+     * 분리 모드: 메인 스펙과 인증번호를 각각 호출한 뒤 합친다. 인증번호 조회 실패는 빈 값으로 폴백한다.
+     */
+    private CompletableFuture<GenerateElectronicResponse> fetchSplitSpec(
+            Long memberId,
+            String model,
+            String modelKey,
+            String specExample,
+            String productNameExample,
+            Role plan,
+            Executor stageExecutor
+    ) {
         final long certStartNanos = System.nanoTime();
-        CompletableFuture<CertificationResponse> certFuture = aiProviderService.fetchCertification(model)
+        CompletableFuture<CertificationResponse> certCall = certificationFlight
+                .execute(modelKey, () -> aiProviderService.fetchCertification(model, plan));
+        CompletableFuture<CertificationResponse> certFuture = certCall
                 .whenComplete((result, throwable) -> {
                     long elapsedMs = elapsedMillis(certStartNanos);
                     if (throwable == null) {
@@ -91,8 +202,12 @@ public class GenerationServiceImpl implements GenerationService {
                 });
 
         final long mainSpecStartNanos = System.nanoTime();
-        CompletableFuture<GenerateElectronicResponse> mainSpecFuture = aiProviderService
-                .fetchMainSpec(model, specExample, productNameExample)
+        String mainSpecKey = CachingAiProviderService.mainSpecCacheKey(model, specExample, productNameExample);
+        CompletableFuture<GenerateElectronicResponse> mainSpecCall = mainSpecFlight
+                .execute(mainSpecKey, () -> aiProviderService.fetchMainSpec(model, specExample, productNameExample, plan));
+        CompletableFuture<GenerateElectronicResponse> mainSpecFuture = mainSpecCall
+                // 합류한 요청끼리 같은 객체를 공유하므로, 요청별 가공 전에 복사본으로 분리
+                .thenApply(GenerateElectronicResponse::copy)
                 .whenComplete((result, throwable) -> {
                     long elapsedMs = elapsedMillis(mainSpecStartNanos);
                     if (throwable == null) {
@@ -104,65 +219,120 @@ public class GenerationServiceImpl implements GenerationService {
                     }
                 });
 
-        CompletableFuture<GenerateElectronicResponse> combinedFuture = mainSpecFuture
-                .thenCombineAsync(certFuture, (mainSpec, cert) -> {
-                    mainSpec.setCertificationNumber(cert);
-                    return mainSpec;
-                }, taskExecutor)
-                .thenCombineAsync(g2bFuture, (mainSpec, g2bOpt) -> {
-                    g2bOpt.ifPresent(mainSpec::setG2bClassificationNumber);
-                    return mainSpec;
-                }, taskExecutor)
-                .thenCombineAsync(countryFuture, (mainSpec, countryOpt) -> {
-                    countryOpt.ifPresent(mainSpec::setCountryOfOrigin);
-                    return mainSpec;
-                }, taskExecutor);
-
-        combinedFuture.whenCompleteAsync((result, throwable) -> {
-            long totalElapsedMs = elapsedMillis(requestStartNanos);
-            if (throwable != null) {
-                log.warn("전자제품 생성 실패. 크레딧 환불. memberId={}, model={}, totalElapsedMs={}, error={}",
-                        memberId, model, totalElapsedMs, rootMessage(throwable));
-                memberService.restoreCredit(memberId);
-            } else {
-                log.info("전자제품 생성 완료: memberId={}, model={}, totalElapsedMs={}",
-                        memberId, model, totalElapsedMs);
-            }
-            eventPublisher.publishEvent(new GenerationLogEvent(member, request, result, throwable));
-        }, taskExecutor);
-
-        return combinedFuture;
+        return Cancellation.propagate(mainSpecFuture.thenCombineAsync(certFuture, (mainSpec, cert) -> {
+            mainSpec.setCertificationNumber(cert);
+            return mainSpec;
+        }, stageExecutor), mainSpecCall, certCall);
     }
 
-    @Override
-    public CompletableFuture<GenerateNonElectronicResponse> generateGeneralSpec(
-            GenerateNonElectronicRequest request,
-            Member member
+    /**
+     * 통합 모드: 한 번의 호출로 메인 스펙과 인증번호 필드를 함께 받는다. (응답 DTO가 두 결과를 모두 담는다)
+     */
+    private CompletableFuture<GenerateElectronicResponse> fetchFusedSpec(
+            Long memberId,
+            String model,
+            String specExample,
+            String productNameExample,
+            Role plan
     ) {
-        final long requestStartNanos = System.nanoTime();
-        final Long memberId = member.getMemberId();
-        final String productName = request.getProductName();
+        final long fusedStartNanos = System.nanoTime();
+        String fusedSpecKey = CachingAiProviderService.fusedSpecCacheKey(model, specExample, productNameExample);
+        CompletableFuture<GenerateElectronicResponse> fusedCall = mainSpecFlight
+                .execute(fusedSpecKey, () -> aiProviderService.fetchMainSpecWithCertification(
+                        model, specExample, productNameExample, plan));
+        return Cancellation.propagate(fusedCall
+                .thenApply(GenerateElectronicResponse::copy)
+                .whenComplete((result, throwable) -> {
+                    long elapsedMs = elapsedMillis(fusedStartNanos);
+                    if (throwable == null) {
+                        log.info("단계 완료 - 메인 스펙+인증정보 생성(AI): memberId={}, model={}, elapsedMs={}",
+                                memberId, model, elapsedMs);
+                    } else {
+                        log.warn("단계 실패 - 메인 스펙+인증정보 생성(AI): memberId={}, model={}, elapsedMs={}, error={}",
+                                memberId, model, elapsedMs, rootMessage(throwable));
+                    }
+                }), fusedCall);
+    }
 
-        log.info("비전자제품 생성 요청 시작: memberId={}, productName={}", memberId, productName);
-        memberService.decrementCredit(memberId);
+    /**
+     * 요청의 후속 단계를 요청자 우선순위로 실행하는 Executor (우선순위를 지원하지 않는 실행기면 그대로 사용)
+     */
+    private Executor stageExecutor(WorkPriority priority) {
+        return taskExecutor instanceof FairPriorityExecutor fair ? fair.withPriority(priority) : taskExecutor;
+    }
 
-        CompletableFuture<GenerateNonElectronicResponse> future = aiProviderService
-                .fetchGeneralSpec(productName, request.getSpecExample());
+    /**
+     * 후속 단계 실행이 거절되면 작업 Future를 429로 끝내는 Executor
+     * CompletableFuture는 후속 단계 실행이 거절되면 그 단계를 완료하지 않고 예외를 완료 스레드로 던진다.
+     * 그대로 두면 작업 Future가 영원히 끝나지 않고 크레딧도 환불되지 않으므로, 거절을 작업 Future의 실패로 바꾼다.
+     */
+    private Executor failTaskOnRejection(Executor executor, CompletableFuture<?> taskFuture) {
+        return command -> {
+            try {
+                executor.execute(command);
+            } catch (RejectedExecutionException e) {
+                log.warn("생성 작업 후속 단계 실행 거절: error={}", e.getMessage());
+                taskFuture.completeExceptionally(executorRejected());
+            }
+        };
+    }
 
-        future.whenCompleteAsync((result, throwable) -> {
-            long totalElapsedMs = elapsedMillis(requestStartNanos);
-            if (throwable != null) {
-                log.warn("비전자제품 생성 실패. 크레딧 환불. memberId={}, productName={}, totalElapsedMs={}, error={}",
-                        memberId, productName, totalElapsedMs, rootMessage(throwable));
-                memberService.restoreCredit(memberId);
+    /**
+     * 환불/생성 로그 같은 완료 처리는 빠지면 안 되므로, 실행 풀이 거절하면 호출 스레드에서라도 처리한다.
+     */
+    private static Executor callerRunsOnRejection(Executor executor) {
+        return command -> {
+            try {
+                executor.execute(command);
+            } catch (RejectedExecutionException e) {
+                command.run();
+            }
+        };
+    }
+
+    private static <T> void completeInto(CompletableFuture<T> source, CompletableFuture<T> taskFuture) {
+        source.whenComplete((result, throwable) -> {
+            if (throwable == null) {
+                taskFuture.complete(result);
             } else {
-                log.info("비전자제품 생성 완료: memberId={}, productName={}, totalElapsedMs={}",
-                        memberId, productName, totalElapsedMs);
+                taskFuture.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null
+                        ? throwable.getCause()
+                        : throwable);
             }
-            eventPublisher.publishEvent(new GenerationLogEvent(member, request, result, throwable));
-        }, taskExecutor);
+        });
+    }
+
+    /**
+     * 시작하는 동안 후속 단계가 거절되어 이미 429로 끝난 작업은 등록하지 않고 바로 429로 응답한다. (환불은 완료 처리에서 수행)
+     */
+    private static <T> CompletableFuture<T> startedOrThrow(CompletableFuture<T> taskFuture) {
+        if (taskFuture.isCompletedExceptionally() && !taskFuture.isCancelled()) {
+            try {
+                taskFuture.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof TooManyRequestsException rejected) {
+                    throw rejected;
+                }
+            }
+        }
+        return taskFuture;
+    }
+
+    /**
+     * 크레딧 차감 후 작업을 시작하지 못한 경우(실행 풀 포화 등) 크레딧을 돌려준다.
+     * 실행 풀이 작업을 거절한 경우는 서버 오류가 아닌 과부하이므로 429로 응답한다.
+     */
+    private RuntimeException refundOnStartFailure(Long memberId, RuntimeException e) {
+        log.warn("생성 작업 시작 실패. 크레딧 환불. memberId={}, error={}", memberId, rootMessage(e));
+        memberService.restoreCredit(memberId);
+        if (e instanceof RejectedExecutionException) {
+            return executorRejected();
+        }
+        return e;
+    }
 
-        return future;
+    private static TooManyRequestsException executorRejected() {
+        return new TooManyRequestsException("현재 처리 중인 생성 작업이 많습니다. 잠시 후 다시 시도해주세요.", EXECUTOR_REJECTED_RETRY_AFTER);
     }
 
     private long elapsedMillis(long startNanos) {
@@ -0,0 +1,93 @@
+package com.backend.domain.generation.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * AI 호출 헤징(hedging) 정책
+ * 최근 응답 지연의 백분위수만큼 기다려도 응답이 없으면 동일 요청을 한 번 더 보내고 먼저 끝난 쪽을 사용한다.
+ * 헤징 트래픽은 예산(요청당 적립되는 비율)만큼만 허용해 상류 부하가 과도하게 늘지 않도록 한다.
+ */
+class HedgingPolicy {
+    private static final int WINDOW_SIZE = 256;
+    // 예산은 최대 이 개수만큼만 쌓여 한가한 시간 뒤 헤징이 몰리지 않도록 한다
+    private static final double MAX_BUDGET = 10.0;
+
+    private final double percentile;
+    private final Duration minDelay;
+    private final int minSamples;
+    private final double budgetRatio;
+
+    private final long[] latencyWindow = new long[WINDOW_SIZE];
+    private int nextIndex = 0;
+    private int sampleCount = 0;
+    private double budget = 0;
+
+    private final Counter hedgeCounter;
+    private final Counter hedgeWinCounter;
+
+    HedgingPolicy(
+            String provider,
+            double percentile,
+            Duration minDelay,
+            int minSamples,
+            double budgetRatio,
+            MeterRegistry meterRegistry
+    ) {
+        this.percentile = percentile;
+        this.minDelay = minDelay;
+        this.minSamples = minSamples;
+        this.budgetRatio = budgetRatio;
+        this.hedgeCounter = Counter.builder("generation.ai.hedge.requests")
+                .description("헤징으로 추가 전송한 AI 요청 수")
+                .tag("provider", provider)
+                .register(meterRegistry);
+        this.hedgeWinCounter = Counter.builder("generation.ai.hedge.wins")
+                .description("헤징 요청이 원 요청보다 먼저 응답한 횟수")
+                .tag("provider", provider)
+                .register(meterRegistry);
+    }
+
+    synchronized void recordLatency(long elapsedNanos) {
+        latencyWindow[nextIndex] = elapsedNanos;
+        nextIndex = (nextIndex + 1) % WINDOW_SIZE;
+        sampleCount = Math.min(sampleCount + 1, WINDOW_SIZE);
+    }
+
+    /**
+     * 요청 1건마다 호출되어 헤징 예산을 적립한다.
+     */
+    synchronized void onRequest() {
+        budget = Math.min(MAX_BUDGET, budget + budgetRatio);
+    }
+
+    /**
+     * @return 헤징 요청을 보내기까지 기다릴 시간, 표본이 부족하면 null (헤징하지 않음)
+     */
+    synchronized Duration hedgeDelay() {
+        if (sampleCount < minSamples || sampleCount == 0) {
+            return null;
+        }
+        long[] sorted = Arrays.copyOf(latencyWindow, sampleCount);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        Duration percentileLatency = Duration.ofNanos(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+        return percentileLatency.compareTo(minDelay) < 0 ? minDelay : percentileLatency;
+    }
+
+    synchronized boolean tryAcquireHedge() {
+        if (budget < 1.0) {
+            return false;
+        }
+        budget -= 1.0;
+        hedgeCounter.increment();
+        return true;
+    }
+
+    void recordHedgeWin() {
+        hedgeWinCounter.increment();
+    }
+}
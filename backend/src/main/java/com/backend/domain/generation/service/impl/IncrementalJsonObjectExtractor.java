@@ -0,0 +1,70 @@
+package com.backend.domain.generation.service.impl;
+
+/**
+ * 조각(chunk) 단위로 들어오는 AI 응답 텍스트에서 첫 번째 JSON 객체를 찾아내는 상태 기계
+ * 문자열 내부의 중괄호/이스케이프를 고려해 최상위 객체의 닫는 중괄호를 만나는 즉시 완성된 JSON을 돌려준다.
+ * 호출 단위로 상태를 가지므로 스레드 간 공유하지 않는다.
+ */
+class IncrementalJsonObjectExtractor {
+    private final StringBuilder buffer = new StringBuilder();
+    private boolean inString = false;
+    private boolean escaping = false;
+    private int depth = 0;
+    private String completed;
+
+    /**
+     * @param chunk 새로 수신한 텍스트 조각
+     * @return 첫 번째 JSON 객체가 완성되었으면 그 JSON 문자열, 아직이면 null
+     */
+    String append(CharSequence chunk) {
+        if (completed != null) {
+            return completed;
+        }
+        if (chunk == null) {
+            return null;
+        }
+
+        for (int i = 0; i < chunk.length(); i++) {
+            char ch = chunk.charAt(i);
+
+            // 첫 '{' 이전의 설명 문구/코드 펜스는 버린다
+            if (depth == 0) {
+                if (ch == '{') {
+                    depth = 1;
+                    buffer.append(ch);
+                }
+                continue;
+            }
+
+            buffer.append(ch);
+
+            if (inString) {
+                if (escaping) {
+                    escaping = false;
+                } else if (ch == '\\') {
+                    escaping = true;
+                } else if (ch == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+
+            if (ch == '"') {
+                inString = true;
+            } else if (ch == '{') {
+                depth++;
+            } else if (ch == '}') {
+                depth--;
+                if (depth == 0) {
+                    completed = buffer.toString();
+                    return completed;
+                }
+            }
+        }
+        return null;
+    }
+
+    boolean isStarted() {
+        return depth > 0 || completed != null;
+    }
+}
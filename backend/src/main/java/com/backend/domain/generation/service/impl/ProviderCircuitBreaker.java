@@ -0,0 +1,193 @@
+package com.backend.domain.generation.service.impl;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+
+/**
+ * AI 제공자별 서킷 브레이커 (최근 N건 기준)
+ * - CLOSED: 최근 호출의 실패율 또는 느린 호출 비율이 임계값을 넘으면 OPEN으로 전환
+ * - OPEN: 대기 시간 동안 호출을 즉시 거절하고, 지나면 HALF_OPEN으로 전환
+ * - HALF_OPEN: 정해진 수의 탐색 호출만 허용해 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * 상태가 바뀔 때마다 세대(generation)를 올려, 이전 상태에서 시작된 호출의 결과는 반영하지 않는다.
+ */
+@Slf4j
+class ProviderCircuitBreaker {
+    static final long REJECTED = -1L;
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String provider;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenProbes;
+
+    // 최근 호출 결과 링 버퍼 (실패/느린 호출 여부)
+    private final boolean[] failures;
+    private final boolean[] slowCalls;
+    private int nextIndex = 0;
+    private int recordedCalls = 0;
+    private int failureCount = 0;
+    private int slowCallCount = 0;
+
+    private State state = State.CLOSED;
+    private long generation = 0;
+    private long openedAtNanos = 0;
+    private int probesIssued = 0;
+    private int probesSucceeded = 0;
+
+    ProviderCircuitBreaker(
+            String provider,
+            int windowSize,
+            int minimumCalls,
+            double failureRateThreshold,
+            double slowCallRateThreshold,
+            Duration slowCallDuration,
+            Duration openDuration,
+            int halfOpenProbes,
+            MeterRegistry meterRegistry
+    ) {
+        this.provider = provider;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = slowCallDuration.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        this.failures = new boolean[windowSize];
+        this.slowCalls = new boolean[windowSize];
+
+        Gauge.builder("generation.ai.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("AI 제공자 서킷 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                .tag("provider", provider)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 가능 여부를 확인한다.
+     *
+     * @return 결과 기록 시 넘길 세대 값, 호출이 거절되면 {@link #REJECTED}
+     */
+    synchronized long tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openNanos) {
+                return REJECTED;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesIssued >= halfOpenProbes) {
+                return REJECTED;
+            }
+            probesIssued++;
+        }
+        return generation;
+    }
+
+    synchronized void onSuccess(long callGeneration, long elapsedNanos) {
+        if (callGeneration != generation) {
+            return;
+        }
+        boolean slow = elapsedNanos >= slowCallNanos;
+        if (state == State.HALF_OPEN) {
+            if (slow) {
+                transitionTo(State.OPEN);
+            } else if (++probesSucceeded >= halfOpenProbes) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        record(false, slow);
+    }
+
+    synchronized void onFailure(long callGeneration, long elapsedNanos) {
+        if (callGeneration != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        record(true, elapsedNanos >= slowCallNanos);
+    }
+
+    /**
+     * 취소/클라이언트 오류처럼 제공자 상태와 무관한 결과. 탐색 호출이었다면 슬롯만 돌려준다.
+     */
+    synchronized void onIgnored(long callGeneration) {
+        if (callGeneration == generation && state == State.HALF_OPEN) {
+            probesIssued--;
+        }
+    }
+
+    private void record(boolean failure, boolean slow) {
+        if (recordedCalls == failures.length) {
+            failureCount -= failures[nextIndex] ? 1 : 0;
+            slowCallCount -= slowCalls[nextIndex] ? 1 : 0;
+        } else {
+            recordedCalls++;
+        }
+        failures[nextIndex] = failure;
+        slowCalls[nextIndex] = slow;
+        failureCount += failure ? 1 : 0;
+        slowCallCount += slow ? 1 : 0;
+        nextIndex = (nextIndex + 1) % failures.length;
+
+        if (recordedCalls >= minimumCalls
+                && (getFailureRate() >= failureRateThreshold || getSlowCallRate() >= slowCallRateThreshold)) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        log.warn("AI 서킷 상태 전환: provider={}, {} -> {}, failureRate={}, slowCallRate={}",
+                provider, state, next, getFailureRate(), getSlowCallRate());
+        state = next;
+        generation++;
+        probesIssued = 0;
+        probesSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+        }
+        if (next == State.CLOSED) {
+            resetWindow();
+        }
+    }
+
+    private void resetWindow() {
+        nextIndex = 0;
+        recordedCalls = 0;
+        failureCount = 0;
+        slowCallCount = 0;
+    }
+
+    /**
+     * 지금 호출하면 즉시 거절되는 상태(OPEN 대기 중)인지 상태 변경 없이 확인한다.
+     */
+    synchronized boolean isRejecting() {
+        return state == State.OPEN && System.nanoTime() - openedAtNanos < openNanos;
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    synchronized double getFailureRate() {
+        return recordedCalls == 0 ? 0.0 : (double) failureCount / recordedCalls;
+    }
+
+    synchronized double getSlowCallRate() {
+        return recordedCalls == 0 ? 0.0 : (double) slowCallCount / recordedCalls;
+    }
+
+    String getProvider() {
+        return provider;
+    }
+}
@@ -0,0 +1,332 @@
+package com.backend.domain.generation.service.impl;
+
+import com.backend.domain.generation.async.Cancellation;
+import com.backend.domain.generation.dto.CertificationResponse;
+import com.backend.domain.generation.dto.GenerateElectronicResponse;
+import com.backend.domain.generation.dto.GenerateNonElectronicResponse;
+import com.backend.domain.generation.service.AiProviderService;
+import com.backend.domain.member.entity.Role;
+import com.backend.global.exception.GenerateApiException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 여러 AI 제공자 사이의 라우팅 계층
+ * 제공자 x 호출 종류별 최근 지연(EWMA)과 오류율을 추적해 성공 1건당 기대 지연이 가장 짧은 제공자로 보내고,
+ * 실패하면 다음 제공자로 한 번씩 전환한다. 서킷이 열린 제공자와 설정이 없는 제공자는 제외한다.
+ * 프리미엄 플랜은 상위 두 제공자를 동시에 호출해 먼저 성공한 응답을 사용한다. (race 모드)
+ */
+@Slf4j
+@Service
+public class RoutingAiProviderService implements AiProviderService {
+    private static final double LATENCY_SMOOTHING = 0.2;
+    private static final double ERROR_SMOOTHING = 0.1;
+    // 오류율이 1에 가까워도 점수가 무한대로 발산하지 않도록 하는 하한
+    private static final double MIN_SUCCESS_RATE = 0.05;
+
+    private final List<RoutedProvider> providers;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${generation.ai.routing.race-plans:PLAN_100K,ADMIN}")
+    private Set<Role> racePlans = EnumSet.of(Role.PLAN_100K, Role.ADMIN);
+    // 통계가 오래된 제공자도 주기적으로 다시 측정되도록 일부 요청은 차선 제공자로 보낸다
+    @Value("${generation.ai.routing.explore-ratio:0.05}")
+    private double exploreRatio = 0.05;
+
+    public RoutingAiProviderService(List<AbstractGenerationService> providers, MeterRegistry meterRegistry) {
+        this.providers = providers.stream().map(RoutedProvider::new).toList();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public CompletableFuture<GenerateElectronicResponse> fetchMainSpec(
+            String model,
+            String specExample,
+            String productNameExample
+    ) {
+        return fetchMainSpec(model, specExample, productNameExample, null);
+    }
+
+    @Override
+    public CompletableFuture<GenerateElectronicResponse> fetchMainSpec(
+            String model,
+            String specExample,
+            String productNameExample,
+            Role plan
+    ) {
+        return route("main-spec", plan, provider -> provider.fetchMainSpec(model, specExample, productNameExample));
+    }
+
+    @Override
+    public CompletableFuture<CertificationResponse> fetchCertification(String model) {
+        return fetchCertification(model, null);
+    }
+
+    @Override
+    public CompletableFuture<CertificationResponse> fetchCertification(String model, Role plan) {
+        return route("certification", plan, provider -> provider.fetchCertification(model));
+    }
+
+    @Override
+    public CompletableFuture<GenerateNonElectronicResponse> fetchGeneralSpec(String productName, String specExample) {
+        return fetchGeneralSpec(productName, specExample, null);
+    }
+
+    @Override
+    public CompletableFuture<GenerateNonElectronicResponse> fetchGeneralSpec(
+            String productName,
+            String specExample,
+            Role plan
+    ) {
+        return route("general-spec", plan, provider -> provider.fetchGeneralSpec(productName, specExample));
+    }
+
+    @Override
+    public CompletableFuture<GenerateElectronicResponse> fetchMainSpecWithCertification(
+            String model,
+            String specExample,
+            String productNameExample,
+            Role plan
+    ) {
+        return route("fused-spec", plan,
+                provider -> provider.fetchMainSpecWithCertification(model, specExample, productNameExample, plan));
+    }
+
+    private <T> CompletableFuture<T> route(
+            String operation,
+            Role plan,
+            Function<AiProviderService, CompletableFuture<T>> call
+    ) {
+        List<RoutedProvider> candidates = rankCandidates(operation);
+        if (candidates.isEmpty()) {
+            return CompletableFuture.failedFuture(new GenerateApiException("사용 가능한 AI 제공자가 없습니다."));
+        }
+
+        if (plan != null && racePlans.contains(plan) && candidates.size() > 1) {
+            return race(operation, candidates.get(0), candidates.get(1), call);
+        }
+        return callWithFailover(operation, candidates, 0, call);
+    }
+
+    /**
+     * 서킷이 열리지 않은 제공자를 해당 호출 종류의 점수 순으로 정렬한다. 일부 요청은 탐색을 위해 1순위를 바꾼다.
+     * 지연 측정값이 없는 제공자는 측정된 제공자들의 평균 지연으로 두고, 점수가 같으면 측정값이 없는 쪽을 먼저 시도한다.
+     */
+    List<RoutedProvider> rankCandidates(String operation) {
+        List<RoutedProvider> candidates = new ArrayList<>();
+        for (RoutedProvider provider : providers) {
+            if (provider.isAvailable()) {
+                candidates.add(provider);
+            }
+        }
+        double neutralLatencyNanos = neutralLatencyNanos(candidates, operation);
+        Map<RoutedProvider, Double> scores = new HashMap<>();
+        candidates.forEach(provider -> scores.put(provider, provider.score(operation, neutralLatencyNanos)));
+        candidates.sort(Comparator.<RoutedProvider>comparingDouble(scores::get)
+                .thenComparing(provider -> provider.isMeasured(operation)));
+
+        if (candidates.size() > 1 && ThreadLocalRandom.current().nextDouble() < exploreRatio) {
+            int explored = 1 + ThreadLocalRandom.current().nextInt(candidates.size() - 1);
+            candidates.add(0, candidates.remove(explored));
+        }
+        return candidates;
+    }
+
+    private <T> CompletableFuture<T> callWithFailover(
+            String operation,
+            List<RoutedProvider> candidates,
+            int index,
+            Function<AiProviderService, CompletableFuture<T>> call
+    ) {
+        RoutedProvider provider = candidates.get(index);
+        countCall(provider, index == 0 ? "single" : "failover");
+        CompletableFuture<T> attempt = invoke(operation, provider, call);
+        // 호출자가 취소하면 그 시점에 진행 중인 시도(전환 후 시도 포함)를 취소한다
+        AtomicReference<CompletableFuture<T>> current = new AtomicReference<>(attempt);
+        CompletableFuture<T> result = attempt.exceptionallyCompose(error -> {
+            Throwable cause = unwrap(error);
+            if (index + 1 >= candidates.size() || cause instanceof CancellationException) {
+                return CompletableFuture.failedFuture(cause);
+            }
+            RoutedProvider next = candidates.get(index + 1);
+            log.warn("AI 제공자 전환: operation={}, from={}, to={}, error={}",
+                    operation, provider.name, next.name, cause.getMessage());
+            CompletableFuture<T> failover = callWithFailover(operation, candidates, index + 1, call);
+            if (!current.compareAndSet(attempt, failover)) {
+                // 전환 도중 호출자가 이미 취소함
+                failover.cancel(true);
+            }
+            return failover;
+        });
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                CompletableFuture<T> running = current.getAndSet(null);
+                if (running != null) {
+                    running.cancel(true);
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 두 제공자를 동시에 호출해 먼저 성공한 응답을 사용하고, 진 쪽은 취소한다. 둘 다 실패하면 마지막 오류로 실패한다.
+     */
+    private <T> CompletableFuture<T> race(
+            String operation,
+            RoutedProvider first,
+            RoutedProvider second,
+            Function<AiProviderService, CompletableFuture<T>> call
+    ) {
+        countCall(first, "race");
+        countCall(second, "race");
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+
+        CompletableFuture<T> firstFuture = invoke(operation, first, call);
+        CompletableFuture<T> secondFuture = invoke(operation, second, call);
+        firstFuture.whenComplete((response, error) -> onRaceResult(result, failures, response, error, secondFuture));
+        secondFuture.whenComplete((response, error) -> onRaceResult(result, failures, response, error, firstFuture));
+        // 호출자가 취소하면 두 제공자 호출을 모두 취소한다
+        Cancellation.propagate(result, firstFuture, secondFuture);
+
+        result.whenComplete((response, error) -> {
+            if (error == null) {
+                log.info("AI race 완료: operation={}, providers=[{}, {}]", operation, first.name, second.name);
+            }
+        });
+        return result;
+    }
+
+    private <T> void onRaceResult(
+            CompletableFuture<T> result,
+            AtomicInteger failures,
+            T response,
+            Throwable error,
+            CompletableFuture<T> other
+    ) {
+        if (error == null) {
+            if (result.complete(response)) {
+                other.cancel(true);
+            }
+        } else if (failures.incrementAndGet() == 2) {
+            result.completeExceptionally(unwrap(error));
+        }
+    }
+
+    /**
+     * 제공자를 호출하고 결과를 통계에 반영한다. 취소를 전달할 수 있도록 원본 future를 그대로 반환한다.
+     */
+    private <T> CompletableFuture<T> invoke(
+            String operation,
+            RoutedProvider provider,
+            Function<AiProviderService, CompletableFuture<T>> call
+    ) {
+        final long startNanos = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = call.apply(provider.service);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((response, error) -> {
+            if (error == null) {
+                provider.recordSuccess(operation, System.nanoTime() - startNanos);
+            } else if (!(unwrap(error) instanceof CancellationException)) {
+                provider.recordFailure(operation);
+            }
+        });
+        return future;
+    }
+
+    private void countCall(RoutedProvider provider, String mode) {
+        meterRegistry.counter("generation.ai.routing.calls", "provider", provider.name, "mode", mode).increment();
+    }
+
+    private static double neutralLatencyNanos(List<RoutedProvider> candidates, String operation) {
+        return candidates.stream()
+                .filter(provider -> provider.isMeasured(operation))
+                .mapToDouble(provider -> provider.latencyNanos(operation))
+                .average()
+                .orElse(0);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    static final class RoutedProvider {
+        private final AbstractGenerationService service;
+        private final String name;
+        // 호출 종류(메인 스펙/인증번호 등)마다 출력 길이가 달라 지연을 따로 추적한다
+        private final Map<String, OperationStats> stats = new HashMap<>();
+
+        private RoutedProvider(AbstractGenerationService service) {
+            this.service = service;
+            this.name = service.getProviderName();
+        }
+
+        boolean isAvailable() {
+            return service.isConfigured() && !service.circuitBreaker().isRejecting();
+        }
+
+        synchronized void recordSuccess(String operation, long elapsedNanos) {
+            OperationStats operationStats = stats.computeIfAbsent(operation, key -> new OperationStats());
+            operationStats.latencyNanos = operationStats.latencyNanos == 0
+                    ? elapsedNanos
+                    : operationStats.latencyNanos + LATENCY_SMOOTHING * (elapsedNanos - operationStats.latencyNanos);
+            operationStats.errorRate -= ERROR_SMOOTHING * operationStats.errorRate;
+        }
+
+        synchronized void recordFailure(String operation) {
+            OperationStats operationStats = stats.computeIfAbsent(operation, key -> new OperationStats());
+            operationStats.errorRate += ERROR_SMOOTHING * (1.0 - operationStats.errorRate);
+        }
+
+        synchronized boolean isMeasured(String operation) {
+            OperationStats operationStats = stats.get(operation);
+            return operationStats != null && operationStats.latencyNanos > 0;
+        }
+
+        synchronized double latencyNanos(String operation) {
+            OperationStats operationStats = stats.get(operation);
+            return operationStats == null ? 0 : operationStats.latencyNanos;
+        }
+
+        /**
+         * 성공 1건당 기대 지연. 지연 측정값이 없으면 neutralLatencyNanos(측정된 제공자 평균)로 계산한다.
+         * (실패만 한 제공자도 오류율만큼 점수가 나빠져 계속 먼저 시도되지 않는다)
+         */
+        synchronized double score(String operation, double neutralLatencyNanos) {
+            OperationStats operationStats = stats.get(operation);
+            double latency = operationStats != null && operationStats.latencyNanos > 0
+                    ? operationStats.latencyNanos
+                    : neutralLatencyNanos;
+            double errorRate = operationStats == null ? 0 : operationStats.errorRate;
+            return latency / Math.max(MIN_SUCCESS_RATE, 1.0 - errorRate);
+        }
+    }
+
+    private static final class OperationStats {
+        private double latencyNanos = 0;
+        private double errorRate = 0;
+    }
+}
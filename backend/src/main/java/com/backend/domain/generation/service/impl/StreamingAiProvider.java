@@ -0,0 +1,18 @@
+package com.backend.domain.generation.service.impl;
+
+/**
+ * 스트리밍(SSE) 응답을 지원하는 AI 제공자가 추가로 구현하는 인터페이스
+ * {@link AbstractGenerationService}는 제공자가 이 인터페이스를 구현하고 스트리밍 설정이 켜진 경우에만 스트리밍 경로를 사용한다.
+ */
+interface StreamingAiProvider {
+
+    /**
+     * SSE 스트리밍 엔드포인트 URL
+     */
+    String getStreamApiUrl();
+
+    /**
+     * SSE 이벤트 하나(data 필드)에 담긴 텍스트 조각을 반환한다. 텍스트가 없는 이벤트면 빈 문자열을 반환한다.
+     */
+    String extractTextFromStreamChunk(String chunkJson) throws Exception;
+}
@@ -1,5 +1,7 @@
 package com.backend.global.config;
 
+import com.backend.domain.generation.async.FairPriorityExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
@@ -7,6 +9,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @EnableAsync
 @Configuration
@@ -14,16 +17,49 @@ public class AsyncConfig {
 
     /**
      * 메인 작업(AI, 스크래핑)용 스레드 풀
+     * 대기 작업은 FIFO 대신 플랜 가중치 + 회원별 공정 순서로 처리한다. (FairPriorityExecutor)
      */
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    public Executor taskExecutor(MeterRegistry meterRegistry) {
         // 현재 시스템의 CPU 코어 수를 기준으로 스레드 풀 크기를 동적으로 설정
         int cores = Runtime.getRuntime().availableProcessors();
-        executor.setCorePoolSize(cores);      // 기본 스레드 수: CPU 코어 수
-        executor.setMaxPoolSize(cores * 2);   // 최대 스레드 수: CPU 코어 수의 2배
-        executor.setQueueCapacity(50);        // 대기 큐 크기
-        executor.setThreadNamePrefix("GenSpec-");
+        // 스레드 수: CPU 코어 수의 2배 (기존 최대 스레드 수), 대기 큐 크기: 50
+        return new FairPriorityExecutor("GenSpec-", cores * 2, 50, meterRegistry);
+    }
+
+    /**
+     * 스크래핑 HTML 파싱 전용 스레드 풀
+     * 네트워크 대기는 논블로킹 클라이언트가 맡고, CPU 작업인 파싱만 작은 풀에서 처리한다.
+     */
+    @Bean(name = "scrapingParseExecutor")
+    public Executor scrapingParseExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        int cores = Runtime.getRuntime().availableProcessors();
+        executor.setCorePoolSize(Math.max(1, cores / 2));
+        executor.setMaxPoolSize(Math.max(2, cores / 2));
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("G2bParse-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 작업 저장소 전용 스레드 풀
+     * 공유 저장소(generation.task.store=shared)는 JPA 블로킹 I/O이므로 생성 작업 풀과 분리한다.
+     * 작업 완료 후 결과 보관, 롱 폴링/SSE 응답 전 결과 조회, 다른 인스턴스 작업의 주기적 확인을 처리한다.
+     */
+    @Bean(name = "taskStoreExecutor")
+    public Executor taskStoreExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("TaskStore-");
+        // 거절되면 결과 보관이 누락되어 작업이 진행 중으로 남으므로, 포화 시에는 호출 스레드에서라도 처리한다
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // 종료 시 남은 결과 보관을 마치고 내려간다
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
         executor.initialize();
         return executor;
     }
@@ -1,24 +1,71 @@
 package com.backend.global.config;
 
+import com.backend.domain.generation.async.TaskEntry;
+import com.backend.domain.generation.dto.GenerateElectronicResponse;
+import com.backend.domain.generation.service.G2bScrapeCache;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.CompletableFuture;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Configuration
 public class CacheConfig {
+    /**
+     * 비동기 생성 작업 저장소
+     * 진행 중인 작업은 개수 제한에서 제외(가중치 0)하고, 완료된 결과만 개수/보관 시간 기준으로 정리한다.
+     * 제거 시 작업을 취소하지 않는다. (크레딧이 차감된 작업이 저장소 용량 때문에 중단되면 안 됨)
+     * 작업이 완료되면 TaskService가 항목을 직렬화된 결과(CompletedTask)로 교체하며, 이때 가중치/만료 시간이 완료 기준으로 바뀐다.
+     */
     @Bean
-    public Cache<String, CompletableFuture<?>> taskCache() {
+    public Cache<String, TaskEntry> taskCache(
+            MeterRegistry meterRegistry,
+            @Value("${generation.task.completed.max-size:1000}") long maxCompleted,
+            @Value("${generation.task.completed.ttl:10m}") Duration completedTtl,
+            @Value("${generation.task.in-flight.max-age:1h}") Duration inFlightMaxAge
+    ) {
         return Caffeine.newBuilder()
-                .expireAfterWrite(10, TimeUnit.MINUTES)
-                .maximumSize(1000)
-                .removalListener((String key, CompletableFuture<?> future, RemovalCause cause) -> {
-                    if (future != null && !future.isDone()) {
-                        future.cancel(true);
+                .weigher((String key, TaskEntry entry) -> entry.isDone() ? 1 : 0)
+                .maximumWeight(maxCompleted)
+                .expireAfter(new Expiry<String, TaskEntry>() {
+                    @Override
+                    public long expireAfterCreate(String key, TaskEntry entry, long currentTime) {
+                        return ttlOf(entry);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, TaskEntry entry, long currentTime,
+                                                  long currentDuration) {
+                        return ttlOf(entry);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, TaskEntry entry, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    // 진행 중인 작업의 최대 보관 시간은 완료되지 않는 작업으로 인한 누수 방지용 안전장치
+                    private long ttlOf(TaskEntry entry) {
+                        return (entry.isDone() ? completedTtl : inFlightMaxAge).toNanos();
+                    }
+                })
+                .removalListener((String key, TaskEntry entry, RemovalCause cause) -> {
+                    if (cause == RemovalCause.REPLACED) {
+                        return;
+                    }
+                    meterRegistry.counter("generation.task.evictions", "cause", cause.name()).increment();
+                    if (entry != null && !entry.isDone()) {
+                        log.warn("진행 중인 작업이 저장소에서 제거됨 (작업은 취소하지 않음): taskId={}, cause={}", key, cause);
                     }
                 })
                 .build();
@@ -31,4 +78,86 @@ public class CacheConfig {
                 .maximumSize(10_000)
                 .build();
     }
+
+    /**
+     * 생성 요청 멱등 키 → taskId
+     * 키 종류(Idempotency-Key 헤더 / 요청 내용으로 만든 키)마다 보관 시간이 달라 항목별 만료 시간으로 넣는다.
+     */
+    @Bean
+    public Cache<String, String> idempotencyCache(
+            @Value("${generation.idempotency.max-size:100000}") long maxSize
+    ) {
+        return Caffeine.newBuilder()
+                .expireAfter(new Expiry<String, String>() {
+                    // IdempotencyService는 항상 만료 시간을 지정해 넣는다. 지정 없이 들어온 항목은 바로 만료시킨다.
+                    @Override
+                    public long expireAfterCreate(String key, String taskId, long currentTime) {
+                        return 0L;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, String taskId, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, String taskId, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 메인 스펙(AI) 결과 캐시
+     * 인기 모델은 같은 요청이 반복되므로 AI 호출 없이 바로 응답하도록 결과를 보관한다.
+     */
+    @Bean
+    public Cache<String, GenerateElectronicResponse> mainSpecCache(
+            MeterRegistry meterRegistry,
+            @Value("${generation.cache.main-spec.ttl:6h}") Duration ttl,
+            @Value("${generation.cache.main-spec.max-size:5000}") long maxSize
+    ) {
+        Cache<String, GenerateElectronicResponse> cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats() // hit/miss 지표 수집
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "mainSpecCache");
+    }
+
+    /**
+     * G2B 스크래핑 결과 L1 캐시
+     * 항목마다 만료 시각이 다르므로(찾음/못 찾음, L2에서 올라온 항목) 항목의 만료 시각을 그대로 따른다.
+     */
+    @Bean
+    public Cache<String, G2bScrapeCache.Entry> g2bScrapeL1Cache(
+            MeterRegistry meterRegistry,
+            @Value("${scraping.g2b.cache.l1-max-size:10000}") long maxSize
+    ) {
+        Cache<String, G2bScrapeCache.Entry> cache = Caffeine.newBuilder()
+                .expireAfter(new Expiry<String, G2bScrapeCache.Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, G2bScrapeCache.Entry value, long currentTime) {
+                        return value.remainingNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, G2bScrapeCache.Entry value, long currentTime,
+                                                  long currentDuration) {
+                        return value.remainingNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, G2bScrapeCache.Entry value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "g2bScrapeCache");
+    }
 }
@@ -2,6 +2,7 @@ package com.backend.global.config;
 
 import com.backend.global.auth.filter.JwtAuthenticationFilter;
 import com.backend.global.auth.jwt.JwtProvider;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
@@ -72,6 +73,8 @@ public class SecurityConfig {
         http
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        // SSE 등 비동기 응답의 재디스패치는 최초 요청에서 이미 인증을 거쳤다
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 
                         .requestMatchers(
                                 "/", "/index.html", "/ping",
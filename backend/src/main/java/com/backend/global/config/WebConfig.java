@@ -1,12 +1,20 @@
 package com.backend.global.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -25,7 +33,37 @@ public class WebConfig implements WebMvcConfigurer {
     }
 
     @Bean
+    @Primary
     public WebClient webClient() {
         return WebClient.builder().build();
     }
+
+    /**
+     * 나라장터(G2B) 스크래핑 전용 WebClient
+     * 커넥션을 재사용(keep-alive)하고, 연결/응답 타임아웃을 AI 호출과 별도로 둔다.
+     */
+    @Bean
+    public WebClient g2bWebClient(
+            @Value("${scraping.g2b.connect-timeout:3s}") Duration connectTimeout,
+            @Value("${scraping.g2b.response-timeout:10s}") Duration responseTimeout,
+            @Value("${scraping.g2b.max-connections:20}") int maxConnections,
+            @Value("${scraping.g2b.max-idle-time:30s}") Duration maxIdleTime
+    ) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("g2b")
+                .maxConnections(maxConnections)
+                .maxIdleTime(maxIdleTime)
+                .pendingAcquireTimeout(responseTimeout)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                // 검색 결과 페이지가 기본 버퍼(256KB)보다 클 수 있다
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(2 * 1024 * 1024))
+                .build();
+    }
 }
@@ -0,0 +1,9 @@
+package com.backend.global.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class BadRequestException extends BaseException {
+    public BadRequestException(String message) {
+        super(HttpStatus.BAD_REQUEST, message);
+    }
+}
@@ -1,6 +1,8 @@
 package com.backend.global.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -48,6 +50,13 @@ public class GlobalExceptionHandler {
         return new ErrorResult(HttpStatus.INTERNAL_SERVER_ERROR, "비동기 작업 중 오류: " + (cause != null ? cause.getMessage() : ex.getMessage()));
     }
 
+    // 요청 파라미터/헤더 형식 오류 (롱 폴링 wait, Idempotency-Key 등)
+    @ExceptionHandler(BadRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResult handleBadRequestException(BadRequestException ex) {
+        return new ErrorResult(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
     @ExceptionHandler(InsufficientCreditException.class)
     @ResponseStatus(HttpStatus.FORBIDDEN)
     public ErrorResult handleInsufficientCreditException(InsufficientCreditException ex) {
@@ -55,6 +64,17 @@ public class GlobalExceptionHandler {
     }
 
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResult> handleTooManyRequestsException(TooManyRequestsException ex) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS);
+        if (ex.getRetryAfter() != null) {
+            // Retry-After는 초 단위 정수. 1초 미만은 올림한다.
+            long seconds = Math.max(1L, (ex.getRetryAfter().toMillis() + 999) / 1000);
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        }
+        return response.body(new ErrorResult(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage()));
+    }
+
     @ExceptionHandler(GenerateApiException.class)
     @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
     public ErrorResult handleGenerateApiException(GenerateApiException ex) {
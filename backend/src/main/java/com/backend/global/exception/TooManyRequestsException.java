@@ -0,0 +1,21 @@
+package com.backend.global.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+@Getter
+public class TooManyRequestsException extends BaseException {
+
+    private final Duration retryAfter; // 다시 시도해도 되는 시점까지의 예상 시간 (모르면 null)
+
+    public TooManyRequestsException(String message) {
+        this(message, null);
+    }
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(HttpStatus.TOO_MANY_REQUESTS, message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,29 @@
+package com.backend.global.util;
+
+import java.util.Locale;
+
+/**
+ * 모델명 비교/캐시 키 생성을 위한 정규화 유틸
+ * 프롬프트의 모델 매칭 규칙과 동일하게 대소문자/공백/하이픈 차이는 같은 모델로 취급한다.
+ */
+public final class ModelNameNormalizer {
+
+    private ModelNameNormalizer() {
+    }
+
+    public static String normalize(String modelName) {
+        if (modelName == null) {
+            return "";
+        }
+
+        StringBuilder normalized = new StringBuilder(modelName.length());
+        for (int i = 0; i < modelName.length(); i++) {
+            char ch = modelName.charAt(i);
+            if (Character.isWhitespace(ch) || ch == '-') {
+                continue;
+            }
+            normalized.append(ch);
+        }
+        return normalized.toString().toUpperCase(Locale.ROOT);
+    }
+}
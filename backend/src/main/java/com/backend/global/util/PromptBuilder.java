@@ -2,8 +2,14 @@ package com.backend.global.util;
 
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class PromptBuilder {
+    // 템플릿에서 요청마다 달라지는 부분이 시작되는 위치 (이 앞까지는 모든 호출에서 동일한 고정 지시문)
+    private static final String PRODUCT_SPEC_VARIABLE_MARKER = "입력 모델명: '";
+    private static final String GENERAL_SPEC_VARIABLE_MARKER = "실제 제품명: '";
+
     // 메인 정보 조회용 프롬프트
     private static final String PRODUCT_SPEC_PROMPT_TEMPLATE = """
         당신은 제품 정보를 극도로 정확하게 조사·검증하는 데이터 전문가입니다.
@@ -27,7 +33,7 @@ public class PromptBuilder {
         - 찾은 정보로 `{}` 부분을 정확히 교체하여 최종 'specification' 값을 완성해야 합니다. 템플릿의 나머지 텍스트와 형식은 그대로 유지해야 합니다.
         - 특정 항목의 정보를 찾지 못하면, 해당 `{}` 부분만 빈 문자열("")로 대체합니다.
         - '규격 형식 예시'에 중괄호가 없으면, 기존 방식대로 50자 이내의 핵심 스펙을 요약하여 생성합니다.
-
+        %s
         [출력 규칙 및 자기검증]
         - productName은 모델명 미포함, 40자 이내.
         - manufacturer를 먼저 결정하고, productName은 반드시 manufacturer로 시작해야 함.
@@ -44,9 +50,28 @@ public class PromptBuilder {
         3) 규격 생성: 위 '[규격 생성 규칙]'을 엄격히 준수하여 'specification' 값을 생성.
         4) 최종 출력: 아래 JSON만 반환.
 
-        {"productName":"생성된 물품명","specification":"생성된 규격","modelName":"%s","manufacturer":"찾아낸 제조사","countryOfOrigin":"찾아낸 원산지"}
+        %s
+        """;
+
+    private static final String PRODUCT_SPEC_OUTPUT_JSON =
+            "{\"productName\":\"생성된 물품명\",\"specification\":\"생성된 규격\",\"modelName\":\"%s\","
+                    + "\"manufacturer\":\"찾아낸 제조사\",\"countryOfOrigin\":\"찾아낸 원산지\"}";
+
+    // 통합 모드: 메인 정보 조사 중 같은 검색 결과로 인증번호까지 함께 찾도록 하는 추가 규칙/출력 필드
+    private static final String FUSED_CERTIFICATION_RULES = """
+
+        [인증번호 조사 규칙]
+        - 같은 모델의 "국가기술표준원 인증번호"와 "KC 전파적합성인증번호"도 함께 찾습니다.
+        - 결과가 여러 개일 경우 하나만 가져와야 합니다. 단 우선순위는 맨 끝자리가 알파벳이 붙은 겁니다.
+        - 찾지 못하거나, 모델명 매칭이 불확실하면 반드시 빈 문자열("")로 처리해야 합니다.
         """;
 
+    private static final String FUSED_SPEC_OUTPUT_JSON =
+            "{\"productName\":\"생성된 물품명\",\"specification\":\"생성된 규격\",\"modelName\":\"%s\","
+                    + "\"manufacturer\":\"찾아낸 제조사\",\"countryOfOrigin\":\"찾아낸 원산지\","
+                    + "\"katsCertificationNumber\":\"찾아낸 국가기술표준원 인증번호\","
+                    + "\"kcCertificationNumber\":\"찾아낸 KC 전파적합성인증번호\"}";
+
     private static final String GENERAL_PRODUCT_SPEC_PROMPT_TEMPLATE = """
         당신은 일반 제품(비전자제품) 정보를 정확하게 조사하는 데이터 전문가입니다.
         아래 원칙을 반드시 지키고, 확증되지 않은 정보는 공백으로 처리하세요.
@@ -98,6 +123,37 @@ public class PromptBuilder {
 
 
     public String buildProductSpecPrompt(String model, String specExample, String productNameExample) {
+        return buildProductSpecPrompt(model, specExample, productNameExample, "", PRODUCT_SPEC_OUTPUT_JSON);
+    }
+
+    /**
+     * 각 프롬프트의 고정 앞부분 목록. 완성된 프롬프트는 이 중 하나로 시작하며,
+     * 제공자가 컨텍스트 캐시에 미리 등록해 두고 나머지(모델명/예시 등)만 전송하는 데 사용한다.
+     */
+    public List<String> staticPromptPrefixes() {
+        String productSpecHead = PRODUCT_SPEC_PROMPT_TEMPLATE.substring(
+                0, PRODUCT_SPEC_PROMPT_TEMPLATE.indexOf(PRODUCT_SPEC_VARIABLE_MARKER));
+        String generalSpecHead = GENERAL_PRODUCT_SPEC_PROMPT_TEMPLATE.substring(
+                0, GENERAL_PRODUCT_SPEC_PROMPT_TEMPLATE.indexOf(GENERAL_SPEC_VARIABLE_MARKER));
+        return List.of(
+                String.format(productSpecHead, ""),
+                String.format(productSpecHead, FUSED_CERTIFICATION_RULES),
+                generalSpecHead
+        );
+    }
+
+    // 메인 정보 + 인증번호를 한 번의 조사로 생성하는 통합 프롬프트 (GenerateElectronicResponse 필드를 모두 채운다)
+    public String buildFusedSpecPrompt(String model, String specExample, String productNameExample) {
+        return buildProductSpecPrompt(model, specExample, productNameExample, FUSED_CERTIFICATION_RULES, FUSED_SPEC_OUTPUT_JSON);
+    }
+
+    private String buildProductSpecPrompt(
+            String model,
+            String specExample,
+            String productNameExample,
+            String extraRules,
+            String outputJsonTemplate
+    ) {
         String promptHeader;
         String productNameInstruction;
 
@@ -119,12 +175,12 @@ public class PromptBuilder {
 
         return String.format(
                 PRODUCT_SPEC_PROMPT_TEMPLATE, // 상수 사용
+                extraRules,
                 model,
                 promptHeader,
                 model,
                 productNameInstruction,
-                model,
-                model
+                String.format(outputJsonTemplate, model)
         );
     }
 
@@ -0,0 +1,98 @@
+package com.backend.domain.generation.async;
+
+import com.backend.domain.member.entity.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class FairPriorityExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FairPriorityExecutor executor;
+    private CountDownLatch blocker;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new FairPriorityExecutor("Test-", 1, 10, meterRegistry);
+        // 작업 스레드를 붙잡아 두고 대기열을 채운 뒤 한꺼번에 풀어 처리 순서를 확인한다
+        blocker = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                blocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+    }
+
+    @AfterEach
+    void tearDown() {
+        blocker.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("밀린 작업은 플랜 가중치 순서로, 같은 플랜 안에서는 회원별로 번갈아 처리된다")
+    void queuedTasks_runByPlanWeightAndMemberRoundRobin() {
+        List<String> order = new CopyOnWriteArrayList<>();
+        submit(order, "free-1a", WorkPriority.of(1L, Role.FREE_USER));
+        submit(order, "free-1b", WorkPriority.of(1L, Role.FREE_USER));
+        submit(order, "free-1c", WorkPriority.of(1L, Role.FREE_USER));
+        submit(order, "free-2a", WorkPriority.of(2L, Role.FREE_USER));
+        submit(order, "paid-3a", WorkPriority.of(3L, Role.PLAN_100K));
+        submit(order, "paid-3b", WorkPriority.of(3L, Role.PLAN_100K));
+
+        blocker.countDown();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> order.size() == 6);
+        assertThat(order).containsExactly("paid-3a", "free-1a", "paid-3b", "free-2a", "free-1b", "free-1c");
+        assertThat(meterRegistry.get("generation.executor.queue.wait").tag("tier", "PLAN_100K").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("작업 실행 중에는 작업의 우선순위가 현재 스레드에 연결된다")
+    void runningTask_exposesItsPriority() {
+        WorkPriority priority = WorkPriority.of(7L, Role.PLAN_50K);
+        List<WorkPriority> seen = new CopyOnWriteArrayList<>();
+        executor.withPriority(priority).execute(() -> seen.add(WorkPriority.current()));
+        executor.execute(() -> seen.add(WorkPriority.current() == null ? WorkPriority.of(null, null) : WorkPriority.current()));
+
+        blocker.countDown();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> seen.size() == 2);
+        // 우선순위 없는 내부 작업이 먼저 실행되고, 스레드에 남은 우선순위가 없어야 한다
+        assertThat(seen).containsExactly(WorkPriority.of(null, null), priority);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 작업을 거절한다")
+    void execute_rejectsWhenQueueIsFull() {
+        for (int i = 0; i < 10; i++) {
+            executor.withPriority(WorkPriority.of(1L, Role.FREE_USER)).execute(() -> { });
+        }
+
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private void submit(List<String> order, String name, WorkPriority priority) {
+        executor.withPriority(priority).execute(() -> order.add(name));
+    }
+}
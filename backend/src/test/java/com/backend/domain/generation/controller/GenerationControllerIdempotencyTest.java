@@ -0,0 +1,149 @@
+package com.backend.domain.generation.controller;
+
+import com.backend.domain.generation.dto.GenerateElectronicRequest;
+import com.backend.domain.generation.dto.GenerateElectronicResponse;
+import com.backend.domain.generation.service.AdmissionController;
+import com.backend.domain.generation.service.GenerationService;
+import com.backend.domain.generation.service.IdempotencyService;
+import com.backend.domain.generation.service.LocalTaskStore;
+import com.backend.domain.generation.service.TaskService;
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.entity.Role;
+import com.backend.global.auth.entity.MemberDetails;
+import com.backend.global.config.CacheConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GenerationControllerIdempotencyTest {
+
+    private GenerationService generationService;
+    private TaskService taskService;
+    private GenerationController controller;
+    private MemberDetails memberDetails;
+
+    @BeforeEach
+    void setUp() {
+        generationService = mock(GenerationService.class);
+        when(generationService.generateSpec(any(), any())).thenAnswer(invocation -> new CompletableFuture<GenerateElectronicResponse>());
+
+        taskService = new TaskService(
+                new LocalTaskStore(Caffeine.newBuilder().build()),
+                Runnable::run,
+                new SimpleMeterRegistry(),
+                new ObjectMapper()
+        );
+        IdempotencyService idempotencyService = new IdempotencyService(
+                new CacheConfig().idempotencyCache(1000),
+                new ObjectMapper(),
+                new SimpleMeterRegistry()
+        );
+        controller = new GenerationController(generationService, taskService, idempotencyService,
+                new AdmissionController(Runnable::run, new SimpleMeterRegistry()));
+        memberDetails = new MemberDetails(Member.createForToken(1L, "user@example.com", Role.PLAN_30K));
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 다시 제출하면 새 작업 없이 처음 발급한 taskId를 돌려준다")
+    void resubmitWithSameKey_returnsOriginalTask() {
+        ResponseEntity<?> first = controller.generateSpecification(request("RF-85"), memberDetails, "retry-1");
+        ResponseEntity<?> retried = controller.generateSpecification(request("RF-85"), memberDetails, "retry-1");
+        ResponseEntity<?> other = controller.generateSpecification(request("RF-85"), memberDetails, "retry-2");
+
+        assertThat(taskId(retried)).isEqualTo(taskId(first));
+        assertThat(retried.getHeaders().getFirst("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(taskId(other)).isNotEqualTo(taskId(first));
+        verify(generationService, times(2)).generateSpec(any(), any());
+    }
+
+    @Test
+    @DisplayName("헤더가 없으면 같은 회원의 같은 요청 내용을 짧은 시간 동안 중복으로 본다")
+    void resubmitWithoutKey_dedupsBySamePayload() {
+        ResponseEntity<?> first = controller.generateSpecification(request("RF-85"), memberDetails, null);
+        ResponseEntity<?> retried = controller.generateSpecification(request("RF-85"), memberDetails, null);
+        ResponseEntity<?> different = controller.generateSpecification(request("RF-90"), memberDetails, null);
+
+        assertThat(taskId(retried)).isEqualTo(taskId(first));
+        assertThat(taskId(different)).isNotEqualTo(taskId(first));
+        verify(generationService, times(2)).generateSpec(any(), any());
+    }
+
+    @Test
+    @DisplayName("작업을 시작하지 못한 요청은 선점을 풀어 재시도가 새 작업으로 처리된다")
+    void failedStart_releasesKey() {
+        when(generationService.generateSpec(any(), any()))
+                .thenThrow(new IllegalStateException("크레딧 부족"))
+                .thenAnswer(invocation -> new CompletableFuture<GenerateElectronicResponse>());
+
+        assertThatThrownBy(() -> controller.generateSpecification(request("RF-85"), memberDetails, "retry-1"))
+                .isInstanceOf(IllegalStateException.class);
+        ResponseEntity<?> retried = controller.generateSpecification(request("RF-85"), memberDetails, "retry-1");
+
+        assertThat(retried.getHeaders().containsKey("Idempotent-Replayed")).isFalse();
+        assertThat(taskId(retried)).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("취소되거나 실패한 작업의 키는 풀려 같은 키로 다시 제출하면 새 작업으로 처리된다")
+    void cancelledOrFailedTask_releasesKey() {
+        CompletableFuture<GenerateElectronicResponse> failing = new CompletableFuture<>();
+        when(generationService.generateSpec(any(), any()))
+                .thenAnswer(invocation -> new CompletableFuture<GenerateElectronicResponse>())
+                .thenReturn(failing)
+                .thenAnswer(invocation -> new CompletableFuture<GenerateElectronicResponse>());
+
+        ResponseEntity<?> first = controller.generateSpecification(request("RF-85"), memberDetails, "retry-1");
+        assertThat(taskService.cancelTask(taskId(first))).isTrue();
+
+        ResponseEntity<?> afterCancel = controller.generateSpecification(request("RF-85"), memberDetails, "retry-1");
+        assertThat(afterCancel.getHeaders().containsKey("Idempotent-Replayed")).isFalse();
+        assertThat(taskId(afterCancel)).isNotEqualTo(taskId(first));
+
+        failing.completeExceptionally(new IllegalStateException("AI 응답 오류"));
+        ResponseEntity<?> afterFailure = controller.generateSpecification(request("RF-85"), memberDetails, "retry-1");
+        assertThat(afterFailure.getHeaders().containsKey("Idempotent-Replayed")).isFalse();
+        assertThat(taskId(afterFailure)).isNotEqualTo(taskId(afterCancel));
+        verify(generationService, times(3)).generateSpec(any(), any());
+    }
+
+    @Test
+    @DisplayName("성공한 작업의 키는 유지되어 다시 제출해도 기존 taskId를 돌려준다")
+    void completedTask_keepsKey() {
+        CompletableFuture<GenerateElectronicResponse> completing = new CompletableFuture<>();
+        when(generationService.generateSpec(any(), any())).thenReturn(completing);
+
+        ResponseEntity<?> first = controller.generateSpecification(request("RF-85"), memberDetails, "retry-1");
+        completing.complete(new GenerateElectronicResponse());
+        ResponseEntity<?> retried = controller.generateSpecification(request("RF-85"), memberDetails, "retry-1");
+
+        assertThat(taskId(retried)).isEqualTo(taskId(first));
+        verify(generationService, times(1)).generateSpec(any(), any());
+    }
+
+    private static GenerateElectronicRequest request(String modelName) {
+        GenerateElectronicRequest request = new GenerateElectronicRequest();
+        request.setModelName(modelName);
+        request.setSpecExample("정격: {전압}");
+        return request;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String taskId(ResponseEntity<?> response) {
+        return ((Map<String, String>) response.getBody()).get("taskId");
+    }
+}
@@ -0,0 +1,109 @@
+package com.backend.domain.generation.controller;
+
+import com.backend.domain.generation.service.AdmissionController;
+import com.backend.domain.generation.service.GenerationService;
+import com.backend.domain.generation.service.IdempotencyService;
+import com.backend.domain.generation.service.LocalTaskStore;
+import com.backend.domain.generation.service.TaskService;
+import com.backend.global.exception.GlobalExceptionHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class GenerationControllerLongPollTest {
+
+    private TaskService taskService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        taskService = new TaskService(
+                new LocalTaskStore(Caffeine.newBuilder().build()),
+                Runnable::run,
+                new SimpleMeterRegistry(),
+                new ObjectMapper()
+        );
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new GenerationController(mock(GenerationService.class), taskService,
+                        mock(IdempotencyService.class), new AdmissionController(Runnable::run, new SimpleMeterRegistry())))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("wait 동안 응답을 미루다가 작업이 끝나는 즉시 결과로 응답한다")
+    void getResult_returnsAsSoonAsTaskCompletes() throws Exception {
+        CompletableFuture<Map<String, String>> future = new CompletableFuture<>();
+        String taskId = taskService.submitTask(future);
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/generation/result/{taskId}", taskId).param("wait", "30s"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS)
+                .execute(() -> future.complete(Map.of("productName", "TEST_PRODUCT")));
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.result.productName").value("TEST_PRODUCT"));
+    }
+
+    @Test
+    @DisplayName("wait가 지나도 끝나지 않으면 RUNNING으로 응답한다")
+    void getResult_returnsRunningWhenWaitExpires() throws Exception {
+        String taskId = taskService.submitTask(new CompletableFuture<>());
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/generation/result/{taskId}", taskId).param("wait", "200ms"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // MockMvc에서는 타임아웃이 자동으로 발생하지 않으므로 컨테이너의 타임아웃 통지를 직접 보낸다
+        MockAsyncContext asyncContext = (MockAsyncContext) mvcResult.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+    }
+
+    @Test
+    @DisplayName("wait가 없으면 기존처럼 현재 상태로 바로 응답한다")
+    void getResult_withoutWaitRespondsImmediately() throws Exception {
+        String taskId = taskService.submitTask(new CompletableFuture<>());
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/generation/result/{taskId}", taskId)).andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+    }
+
+    @Test
+    @DisplayName("wait 형식이 잘못되면 400으로 응답한다")
+    void getResult_rejectsInvalidWait() throws Exception {
+        mockMvc.perform(get("/api/v1/generation/result/{taskId}", "any").param("wait", "soon"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,78 @@
+package com.backend.domain.generation.controller;
+
+import com.backend.domain.generation.service.AdmissionController;
+import com.backend.domain.generation.service.GenerationService;
+import com.backend.domain.generation.service.IdempotencyService;
+import com.backend.domain.generation.service.LocalTaskStore;
+import com.backend.domain.generation.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class GenerationControllerStreamTest {
+
+    private TaskService taskService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        taskService = new TaskService(
+                new LocalTaskStore(Caffeine.newBuilder().build()),
+                Runnable::run,
+                new SimpleMeterRegistry(),
+                new ObjectMapper()
+        );
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new GenerationController(mock(GenerationService.class), taskService,
+                        mock(IdempotencyService.class), new AdmissionController(Runnable::run, new SimpleMeterRegistry())))
+                .build();
+    }
+
+    @Test
+    @DisplayName("작업이 완료되는 즉시 SSE로 결과를 보내고 연결을 닫는다")
+    void streamResult_pushesResultOnCompletion() throws Exception {
+        CompletableFuture<Map<String, String>> future = new CompletableFuture<>();
+        String taskId = taskService.submitTask(future);
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/generation/stream/{taskId}", taskId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(mvcResult.getResponse().getContentAsString()).contains("event:status").contains("RUNNING");
+
+        future.complete(Map.of("productName", "TEST_PRODUCT"));
+
+        mockMvc.perform(asyncDispatch(mvcResult)).andExpect(status().isOk());
+        String body = mvcResult.getResponse().getContentAsString();
+        assertThat(body).contains("event:result").contains("COMPLETED").contains("TEST_PRODUCT");
+    }
+
+    @Test
+    @DisplayName("이미 끝난 작업이나 없는 작업은 결과를 바로 보내고 닫는다")
+    void streamResult_respondsImmediatelyForFinishedOrUnknownTask() throws Exception {
+        String taskId = taskService.submitTask(CompletableFuture.completedFuture(Map.of("productName", "DONE")));
+
+        MvcResult finished = mockMvc.perform(get("/api/v1/generation/stream/{taskId}", taskId)).andReturn();
+        mockMvc.perform(asyncDispatch(finished)).andExpect(status().isOk());
+        MvcResult unknown = mockMvc.perform(get("/api/v1/generation/stream/{taskId}", "missing")).andReturn();
+        mockMvc.perform(asyncDispatch(unknown)).andExpect(status().isOk());
+
+        assertThat(finished.getResponse().getContentAsString()).contains("event:result").contains("DONE");
+        assertThat(unknown.getResponse().getContentAsString()).contains("NOT_FOUND");
+    }
+}
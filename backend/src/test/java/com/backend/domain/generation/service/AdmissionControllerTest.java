@@ -0,0 +1,118 @@
+package com.backend.domain.generation.service;
+
+import com.backend.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControllerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("진행 중인 생성 수가 한도에 도달하면 작업을 시작하지 않고 Retry-After와 함께 거절한다")
+    void admit_rejectsBeforeStartingWhenInFlightLimitReached() {
+        AdmissionController admission = admissionController(Runnable::run);
+        ReflectionTestUtils.setField(admission, "maxInFlight", 2);
+        AtomicInteger started = new AtomicInteger();
+        CompletableFuture<String> first = new CompletableFuture<>();
+
+        admission.admit(() -> count(started, first));
+        admission.admit(() -> count(started, new CompletableFuture<String>()));
+
+        assertThatThrownBy(() -> admission.admit(() -> count(started, new CompletableFuture<String>())))
+                .isInstanceOfSatisfying(TooManyRequestsException.class, e ->
+                        assertThat(e.getRetryAfter()).isBetween(Duration.ofSeconds(1), Duration.ofSeconds(60)));
+        assertThat(started.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("generation.admission.rejected", "reason", "in_flight").count()).isEqualTo(1);
+
+        first.complete("done");
+        admission.admit(() -> count(started, new CompletableFuture<String>()));
+        assertThat(started.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("실행 풀 대기열이 한도까지 차면 실행 풀이 거절하기 전에 미리 거절한다")
+    void admit_rejectsWhenExecutorQueueIsNearlyFull() throws InterruptedException {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(5);
+        executor.initialize();
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release));
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> { });
+        }
+
+        AdmissionController admission = admissionController(executor);
+        try {
+            assertThatThrownBy(() -> admission.admit(() -> new CompletableFuture<String>()))
+                    .isInstanceOf(TooManyRequestsException.class);
+            assertThat(meterRegistry.counter("generation.admission.rejected", "reason", "queue").count()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("작업 시작 중 실행 풀이 거절하면 429로 바꾸고 진행 중 수를 되돌린다")
+    void admit_convertsExecutorRejection() {
+        AdmissionController admission = admissionController(Runnable::run);
+
+        assertThatThrownBy(() -> admission.admit(() -> {
+            throw new RejectedExecutionException("queue full");
+        })).isInstanceOf(TooManyRequestsException.class);
+
+        assertThat(admission.getInFlight()).isZero();
+        assertThat(meterRegistry.counter("generation.admission.rejected", "reason", "executor").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Retry-After는 평균 소요 시간과 초과분으로 계산하고 1~60초로 제한한다")
+    void retryAfter_isEstimatedFromAverageDuration() {
+        AdmissionController admission = admissionController(Runnable::run);
+
+        assertThat(admission.retryAfter(1, 10)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(admission.retryAfter(5, 10)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(admission.retryAfter(100, 1)).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    private AdmissionController admissionController(Executor executor) {
+        return new AdmissionController(executor, meterRegistry);
+    }
+
+    private static <T> CompletableFuture<T> count(AtomicInteger started, CompletableFuture<T> future) {
+        started.incrementAndGet();
+        return future;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
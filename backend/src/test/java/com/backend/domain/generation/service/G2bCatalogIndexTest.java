@@ -0,0 +1,96 @@
+package com.backend.domain.generation.service;
+
+import com.backend.domain.generation.dto.G2bProductInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class G2bCatalogIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("헤더 이름으로 열을 찾고, 정규화된 모델명으로 분류번호와 원산지를 조회한다")
+    void reload_indexesByNormalizedModelName() throws IOException {
+        G2bCatalogIndex index = indexOf(writeCatalog(
+                "\uFEFF물품분류번호,원산지,모델명",
+                "40101701-23642147,TH,AX060B310GBD",
+                "\"43211503-24000001\",대한민국,\"NT 950, XED\"",
+                "40101701-99999999,CN,AX060B310GBD"
+        ));
+
+        G2bProductInfo airPurifier = index.find("AX060B310GBD").orElseThrow();
+        G2bProductInfo laptop = index.find("NT950,XED").orElseThrow();
+
+        assertThat(airPurifier.classificationNumber()).contains("23642147");
+        assertThat(airPurifier.countryOfOrigin()).contains("태국");
+        assertThat(laptop.classificationNumber()).contains("24000001");
+        assertThat(laptop.countryOfOrigin()).contains("대한민국");
+        assertThat(index.find("UNKNOWN")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재적재하면 새 인덱스로 교체하고, 실패하면 기존 인덱스를 유지한다")
+    void reload_swapsIndexAndKeepsPreviousOnFailure() throws IOException {
+        Path catalog = writeCatalog("분류번호,모델명,원산지", "1-111,MODEL-A,KR");
+        G2bCatalogIndex index = indexOf(catalog);
+
+        Files.write(catalog, List.of("분류번호,모델명,원산지", "1-222,MODEL-B,KR"), StandardCharsets.UTF_8);
+        index.reload();
+
+        assertThat(index.find("MODELA")).isEmpty();
+        assertThat(index.find("MODELB")).isPresent();
+
+        Files.delete(catalog);
+        assertThatThrownBy(index::reload).isInstanceOf(IOException.class);
+        assertThat(index.find("MODELB")).isPresent();
+    }
+
+    @Test
+    @DisplayName("대용량 카탈로그도 모든 행을 색인해 모델마다 조회된다")
+    void find_resolvesEveryModelOnLargeCatalog() throws IOException {
+        int size = 200_000;
+        List<String> lines = new ArrayList<>(size + 1);
+        lines.add("분류번호,모델명,원산지");
+        for (int i = 0; i < size; i++) {
+            lines.add("40101701-" + (20_000_000 + i) + ",MODEL-" + i + "," + (i % 2 == 0 ? "KR" : "CN"));
+        }
+        G2bCatalogIndex index = indexOf(writeCatalog(lines.toArray(String[]::new)));
+
+        assertThat(index.getSnapshot().entries()).hasSize(size);
+        int hits = 0;
+        for (int i = 0; i < size; i++) {
+            if (index.find("MODEL" + i).isPresent()) {
+                hits++;
+            }
+        }
+        assertThat(hits).isEqualTo(size);
+        assertThat(index.find("MODEL" + (size - 1)).orElseThrow().classificationNumber())
+                .contains(String.valueOf(20_000_000 + size - 1));
+    }
+
+    private G2bCatalogIndex indexOf(Path catalog) throws IOException {
+        G2bCatalogIndex index = new G2bCatalogIndex();
+        ReflectionTestUtils.setField(index, "catalogPath", catalog.toString());
+        index.reload();
+        return index;
+    }
+
+    private Path writeCatalog(String... lines) throws IOException {
+        Path catalog = tempDir.resolve("g2b-catalog.csv");
+        Files.write(catalog, List.of(lines), StandardCharsets.UTF_8);
+        return catalog;
+    }
+}
@@ -0,0 +1,131 @@
+package com.backend.domain.generation.service;
+
+import com.backend.domain.generation.dto.G2bProductInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 저장된 G2B 검색 결과 페이지(src/test/resources/g2b)로 스트리밍 파싱과 전체 DOM 파싱을 비교한다.
+ * 파싱 시간 측정은 benchmark 태그로 분리해 기본 테스트에서 제외한다. (./gradlew benchmark)
+ */
+class G2bFirstResultReaderTest {
+
+    private static final String MODEL_NAME = "AX060B310GBD";
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final int ITERATIONS = 200;
+
+    private static byte[] page;
+
+    private final ScrapingService scrapingService = new ScrapingService(
+            WebClient.builder().build(),
+            Runnable::run,
+            new G2bRequestScheduler(new SimpleMeterRegistry()),
+            mock(G2bScrapeCache.class),
+            new G2bCatalogIndex()
+    );
+
+    @BeforeAll
+    static void loadPage() throws IOException {
+        try (InputStream in = G2bFirstResultReaderTest.class.getResourceAsStream("/g2b/unified-search-result.html")) {
+            page = in.readAllBytes();
+        }
+    }
+
+    @Test
+    @DisplayName("첫 항목만 읽어도 전체 DOM 파싱과 같은 결과를 얻고, 읽은 바이트는 더 적다")
+    void streamingParse_matchesFullParseWithFewerBytes() {
+        G2bProductInfo full = parseFull();
+        G2bFirstResultReader reader = readInChunks(CHUNK_SIZE);
+        G2bProductInfo streamed = parseFragment(reader);
+
+        assertThat(reader.isDone()).isTrue();
+        assertThat(streamed.classificationNumber()).isEqualTo(full.classificationNumber()).contains("23642147");
+        assertThat(streamed.countryOfOrigin()).isEqualTo(full.countryOfOrigin()).contains("태국");
+        assertThat(reader.getBytesRead()).isLessThan(page.length);
+    }
+
+    @Test
+    @DisplayName("청크 경계에서 한글/태그가 잘려도 같은 조각을 얻는다")
+    void streamingParse_handlesSplitCharactersAndTags() {
+        String expected = readInChunks(CHUNK_SIZE).firstItemHtml();
+
+        assertThat(readInChunks(1).firstItemHtml()).isEqualTo(expected);
+        assertThat(readInChunks(7).firstItemHtml()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("결과 목록이 비어 있으면 항목 없이 읽기를 끝낸다")
+    void streamingParse_stopsOnEmptyList() {
+        G2bFirstResultReader reader = new G2bFirstResultReader(StandardCharsets.UTF_8);
+
+        boolean done = reader.feed("<html><head><link rel=\"stylesheet\"></head><body>"
+                + "<ul class=\"searchList bb_d7dbe4\">\n</ul><div>footer</div></body></html>");
+
+        assertThat(done).isTrue();
+        assertThat(reader.firstItemHtml()).isNull();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("저장된 페이지 기준 스크래핑 1건당 읽은 바이트/파싱 시간 비교")
+    void benchmark_streamingVersusFullParse() {
+        // JIT 워밍업
+        for (int i = 0; i < 20; i++) {
+            parseFull();
+            parseFragment(readInChunks(CHUNK_SIZE));
+        }
+
+        long fullStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            parseFull();
+        }
+        long fullMicros = (System.nanoTime() - fullStart) / ITERATIONS / 1_000L;
+
+        long bytesRead = 0;
+        long streamingStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            G2bFirstResultReader reader = readInChunks(CHUNK_SIZE);
+            parseFragment(reader);
+            bytesRead = reader.getBytesRead();
+        }
+        long streamingMicros = (System.nanoTime() - streamingStart) / ITERATIONS / 1_000L;
+
+        System.out.printf("[G2B-PARSE] pageBytes=%d full: bytesRead=%d avgMicros=%d | streaming: bytesRead=%d avgMicros=%d%n",
+                page.length, page.length, fullMicros, bytesRead, streamingMicros);
+
+        assertThat(bytesRead).isLessThan(page.length);
+    }
+
+    private G2bProductInfo parseFull() {
+        return scrapingService.extractProductInfo(Jsoup.parse(new String(page, StandardCharsets.UTF_8)), MODEL_NAME);
+    }
+
+    private G2bProductInfo parseFragment(G2bFirstResultReader reader) {
+        return scrapingService.extractProductInfo(Jsoup.parse(reader.firstItemHtml()), MODEL_NAME);
+    }
+
+    private static G2bFirstResultReader readInChunks(int chunkSize) {
+        G2bFirstResultReader reader = new G2bFirstResultReader(StandardCharsets.UTF_8);
+        for (int offset = 0; offset < page.length; offset += chunkSize) {
+            byte[] chunk = Arrays.copyOfRange(page, offset, Math.min(page.length, offset + chunkSize));
+            if (reader.feed(ByteBuffer.wrap(chunk))) {
+                break;
+            }
+        }
+        return reader;
+    }
+}
@@ -0,0 +1,105 @@
+package com.backend.domain.generation.service;
+
+import com.backend.global.exception.GenerateApiException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class G2bRequestSchedulerTest {
+
+    private static final long INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private G2bRequestScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = newScheduler(clock::get);
+    }
+
+    @Test
+    @DisplayName("한가할 때는 버킷 크기만큼 즉시 요청하고, 이후 요청은 요청 간격에 맞춰 대기한다")
+    void reserve_allowsBurstThenSmoothsToRate() {
+        assertThat(scheduler.reserve()).isZero();
+        assertThat(scheduler.reserve()).isZero();
+        assertThat(scheduler.reserve()).isEqualTo(INTERVAL_NANOS);
+        assertThat(scheduler.reserve()).isEqualTo(2 * INTERVAL_NANOS);
+    }
+
+    @Test
+    @DisplayName("충분히 쉬고 나면 다시 즉시 요청한다")
+    void reserve_refillsAfterIdle() {
+        scheduler.reserve();
+        scheduler.reserve();
+        scheduler.reserve();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(scheduler.reserve()).isZero();
+        assertThat(scheduler.reserve()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 시간이 상한을 넘으면 슬롯을 소비하지 않고 거절한다")
+    void reserve_rejectsBeyondMaxQueueWait() {
+        for (int i = 0; i < 6; i++) {
+            scheduler.reserve();
+        }
+
+        assertThat(scheduler.reserve()).isEqualTo(-1L);
+        clock.addAndGet(INTERVAL_NANOS);
+        assertThat(scheduler.reserve()).isEqualTo(4 * INTERVAL_NANOS);
+    }
+
+    @Test
+    @DisplayName("지터는 대기하는 요청에만 더해진다")
+    void reserve_addsJitterOnlyWhenWaiting() {
+        ReflectionTestUtils.setField(scheduler, "jitterRatio", 0.5);
+
+        assertThat(scheduler.reserve()).isZero();
+        assertThat(scheduler.reserve()).isZero();
+        assertThat(scheduler.reserve()).isBetween(INTERVAL_NANOS, INTERVAL_NANOS + INTERVAL_NANOS / 2);
+    }
+
+    @Test
+    @DisplayName("대기 시간은 지표로 기록되고, 거절되면 오류로 끝난다")
+    void acquire_recordsQueueWaitAndRejects() {
+        scheduler = newScheduler(System::nanoTime);
+        ReflectionTestUtils.setField(scheduler, "requestsPerSecond", 20.0);
+        ReflectionTestUtils.setField(scheduler, "maxQueueWait", Duration.ofMillis(60));
+
+        StepVerifier.create(scheduler.acquire()).verifyComplete();
+        StepVerifier.create(scheduler.acquire()).verifyComplete();
+        StepVerifier.create(scheduler.acquire()).verifyComplete();
+        StepVerifier.create(Mono.when(scheduler.acquire(), scheduler.acquire(), scheduler.acquire()))
+                .verifyError(GenerateApiException.class);
+
+        Timer timer = meterRegistry.get("scraping.g2b.queue.wait").timer();
+        assertThat(timer.count()).isGreaterThanOrEqualTo(3);
+        assertThat(timer.max(TimeUnit.MILLISECONDS)).isPositive();
+        assertThat(meterRegistry.get("scraping.g2b.queue.rejected").counter().count()).isPositive();
+    }
+
+    private G2bRequestScheduler newScheduler(LongSupplier nanoClock) {
+        G2bRequestScheduler newScheduler = new G2bRequestScheduler(meterRegistry, nanoClock);
+        ReflectionTestUtils.setField(newScheduler, "requestsPerSecond", 2.0);
+        ReflectionTestUtils.setField(newScheduler, "burst", 2);
+        ReflectionTestUtils.setField(newScheduler, "jitterRatio", 0.0);
+        ReflectionTestUtils.setField(newScheduler, "maxQueueWait", Duration.ofSeconds(2));
+        return newScheduler;
+    }
+}
@@ -0,0 +1,155 @@
+package com.backend.domain.generation.service;
+
+import com.backend.domain.generation.dto.G2bProductInfo;
+import com.backend.domain.generation.entity.G2bScrapeResult;
+import com.backend.domain.generation.repository.G2bScrapeResultRepository;
+import com.backend.global.config.CacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class G2bScrapeCacheTest {
+
+    private static final String MODEL_KEY = "AX060B310GBD";
+
+    private final Clock clock = Clock.fixed(Instant.now(), ZoneId.systemDefault());
+    private G2bScrapeResultRepository repository;
+    private G2bScrapeCache scrapeCache;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(G2bScrapeResultRepository.class);
+        when(repository.findById(any())).thenReturn(Optional.empty());
+        scrapeCache = newScrapeCache(clock);
+    }
+
+    @Test
+    @DisplayName("저장한 결과는 L1에서 바로 응답하고 DB를 조회하지 않는다")
+    void get_hitsL1AfterPut() {
+        scrapeCache.put(MODEL_KEY, G2bProductInfo.of("23642147", "태국")).block();
+
+        StepVerifier.create(scrapeCache.get(MODEL_KEY))
+                .assertNext(info -> assertThat(info.classificationNumber()).contains("23642147"))
+                .verifyComplete();
+
+        // put 내부의 upsert 조회 1회만 발생
+        verify(repository, times(1)).findById(MODEL_KEY);
+    }
+
+    @Test
+    @DisplayName("L1에 없으면 DB 결과를 사용하고 L1에 올려 둔다")
+    void get_loadsFromL2AndPromotesToL1() {
+        when(repository.findById(MODEL_KEY)).thenReturn(Optional.of(result(true, LocalDateTime.now(clock).plusDays(1))));
+
+        StepVerifier.create(scrapeCache.get(MODEL_KEY))
+                .assertNext(info -> assertThat(info.countryOfOrigin()).contains("태국"))
+                .verifyComplete();
+        StepVerifier.create(scrapeCache.get(MODEL_KEY))
+                .assertNext(info -> assertThat(info.countryOfOrigin()).contains("태국"))
+                .verifyComplete();
+
+        verify(repository, times(1)).findById(MODEL_KEY);
+    }
+
+    @Test
+    @DisplayName("만료된 DB 결과는 사용하지 않는다")
+    void get_ignoresExpiredL2Result() {
+        when(repository.findById(MODEL_KEY)).thenReturn(Optional.of(result(true, LocalDateTime.now(clock).minusMinutes(1))));
+
+        StepVerifier.create(scrapeCache.get(MODEL_KEY)).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("찾은 결과와 찾지 못한 결과는 서로 다른 TTL로 저장한다")
+    void put_appliesSeparateTtlForNotFound() {
+        scrapeCache.put("FOUND", G2bProductInfo.of("23642147", null)).block();
+        scrapeCache.put("NOT-FOUND", G2bProductInfo.empty()).block();
+
+        ArgumentCaptor<G2bScrapeResult> captor = ArgumentCaptor.forClass(G2bScrapeResult.class);
+        verify(repository, times(2)).save(captor.capture());
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        assertThat(captor.getAllValues().get(0).isFound()).isTrue();
+        assertThat(captor.getAllValues().get(0).getExpiresAt()).isEqualTo(now.plusDays(30));
+        assertThat(captor.getAllValues().get(1).isFound()).isFalse();
+        assertThat(captor.getAllValues().get(1).getExpiresAt()).isEqualTo(now.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("L1 만료 시간은 주입된 clock 기준으로 계산한다")
+    void put_usesInjectedClockForL1Expiry() {
+        // 시스템 시각으로 계산하면 이미 지난 만료 시각이라 L1에 남지 않는다
+        Clock pastClock = Clock.fixed(Instant.parse("2020-01-01T00:00:00Z"), ZoneId.systemDefault());
+        scrapeCache = newScrapeCache(pastClock);
+
+        scrapeCache.put(MODEL_KEY, G2bProductInfo.of("23642147", "태국")).block();
+
+        StepVerifier.create(scrapeCache.get(MODEL_KEY))
+                .assertNext(info -> assertThat(info.classificationNumber()).contains("23642147"))
+                .verifyComplete();
+        verify(repository, times(1)).findById(MODEL_KEY);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 insert해 충돌하면 다시 조회해 update로 저장한다")
+    void put_retriesAsUpdateOnInsertConflict() {
+        G2bScrapeResult existing = result(false, LocalDateTime.now(clock).plusDays(1));
+        when(repository.findById(MODEL_KEY)).thenReturn(Optional.empty(), Optional.of(existing));
+        when(repository.save(any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        scrapeCache.put(MODEL_KEY, G2bProductInfo.of("23642147", "태국")).block();
+
+        ArgumentCaptor<G2bScrapeResult> captor = ArgumentCaptor.forClass(G2bScrapeResult.class);
+        verify(repository, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues().get(1)).isSameAs(existing);
+        assertThat(existing.isFound()).isTrue();
+        assertThat(existing.getExpiresAt()).isEqualTo(LocalDateTime.now(clock).plusDays(30));
+    }
+
+    @Test
+    @DisplayName("DB 조회가 실패하면 캐시 미스로 처리한다")
+    void get_treatsL2ErrorAsMiss() {
+        when(repository.findById(MODEL_KEY)).thenThrow(new IllegalStateException("db down"));
+
+        StepVerifier.create(scrapeCache.get(MODEL_KEY)).verifyComplete();
+        verify(repository, never()).save(any());
+    }
+
+    private G2bScrapeCache newScrapeCache(Clock cacheClock) {
+        return new G2bScrapeCache(
+                new CacheConfig().g2bScrapeL1Cache(new SimpleMeterRegistry(), 100),
+                repository,
+                cacheClock
+        );
+    }
+
+    private static G2bScrapeResult result(boolean found, LocalDateTime expiresAt) {
+        return G2bScrapeResult.builder()
+                .modelKey(MODEL_KEY)
+                .classificationNumber("23642147")
+                .countryOfOrigin("태국")
+                .found(found)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.backend.domain.generation.service;
+
+import com.backend.domain.generation.dto.G2bProductInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 네트워크 없이 G2B 검색 결과 HTML에서 분류번호/원산지를 한 번에 추출하는지 확인한다.
+ */
+class ScrapingServiceExtractTest {
+
+    private final ScrapingService scrapingService = new ScrapingService(
+            WebClient.builder().build(),
+            Runnable::run,
+            new G2bRequestScheduler(new SimpleMeterRegistry()),
+            mock(G2bScrapeCache.class),
+            new G2bCatalogIndex()
+    );
+
+    @Test
+    @DisplayName("첫 검색 결과에서 분류번호와 원산지를 함께 추출한다")
+    void extractProductInfo_readsBothFields() {
+        Document doc = Jsoup.parse(resultPage(true));
+
+        G2bProductInfo info = scrapingService.extractProductInfo(doc, "AX060B310GBD");
+
+        assertThat(info.classificationNumber()).contains("23642147");
+        assertThat(info.countryOfOrigin()).contains("태국");
+    }
+
+    @Test
+    @DisplayName("하이라이트된 검색어가 없으면 두 값 모두 비운다")
+    void extractProductInfo_requiresHighlightedKeyword() {
+        Document doc = Jsoup.parse(resultPage(false));
+
+        G2bProductInfo info = scrapingService.extractProductInfo(doc, "AX060B310GBD");
+
+        assertThat(info.classificationNumber()).isEmpty();
+        assertThat(info.countryOfOrigin()).isEmpty();
+    }
+
+    private static String resultPage(boolean highlighted) {
+        String modelName = highlighted ? "<span class=\"searchKeyword\">AX060B310GBD</span>" : "AX060B310GBD";
+        return "<html><body><ul class=\"bb_d7dbe4\"><li>"
+                + "<div class=\"searchLabel_blue\"><span class=\"labelNum\">40101701-23642147</span></div>"
+                + "<div class=\"searchListImgTit\">공기청정기, 삼성전자, " + modelName + " (TH)</div>"
+                + "</li></ul></body></html>";
+    }
+}
@@ -0,0 +1,92 @@
+package com.backend.domain.generation.service;
+
+import com.backend.domain.generation.async.TaskEntry;
+import com.backend.domain.generation.async.TaskStatus;
+import com.backend.domain.generation.entity.GenerationTask;
+import com.backend.domain.generation.repository.GenerationTaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 DB(H2)로 공유 작업 저장소를 검증한다.
+ * 같은 DB를 쓰는 두 인스턴스(A, B)를 각자의 near-cache로 모사한다.
+ */
+@DataJpaTest
+class SharedTaskStoreTest {
+
+    @Autowired
+    private GenerationTaskRepository repository;
+
+    private TaskService nodeA;
+    private TaskService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new TaskService(
+                new SharedTaskStore(Caffeine.newBuilder().build(), repository),
+                Runnable::run,
+                new SimpleMeterRegistry(),
+                new ObjectMapper()
+        );
+        nodeB = new TaskService(
+                new SharedTaskStore(Caffeine.newBuilder().build(), repository),
+                Runnable::run,
+                new SimpleMeterRegistry(),
+                new ObjectMapper()
+        );
+    }
+
+    @Test
+    @DisplayName("작업을 시작하지 않은 인스턴스에서도 진행 상태와 완료 결과를 조회할 수 있다")
+    void otherNode_canServeTaskResult() throws Exception {
+        CompletableFuture<Map<String, String>> future = new CompletableFuture<>();
+        String taskId = nodeA.submitTask(future);
+
+        assertThat(nodeB.getTaskResult(taskId).getStatus()).isEqualTo(TaskStatus.RUNNING);
+        assertThat(nodeB.cancelTask(taskId)).isFalse();
+
+        future.complete(Map.of("productName", "TEST_PRODUCT"));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertThat(objectMapper.writeValueAsString(nodeB.getTaskResult(taskId)))
+                .isEqualTo("{\"status\":\"COMPLETED\",\"result\":{\"productName\":\"TEST_PRODUCT\"}}");
+        assertThat(nodeB.getTaskResult("missing").getStatus()).isEqualTo(TaskStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("실패한 작업은 오류 메시지와 함께 공유된다")
+    void failedTask_isShared() {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        String taskId = nodeA.submitTask(future);
+
+        future.completeExceptionally(new IllegalStateException("AI 응답 오류"));
+
+        assertThat(nodeB.getTaskResult(taskId).getStatus()).isEqualTo(TaskStatus.FAILED);
+        assertThat(nodeB.getTaskResult(taskId).getError()).isEqualTo("AI 응답 오류");
+    }
+
+    @Test
+    @DisplayName("만료된 작업은 조회되지 않고 정리 시 삭제된다")
+    void expiredTask_isIgnoredAndPurged() {
+        repository.save(GenerationTask.running("expired", LocalDateTime.now().minusMinutes(1)));
+        SharedTaskStore store = new SharedTaskStore(Caffeine.newBuilder().build(), repository);
+
+        TaskEntry entry = store.find("expired");
+        store.purgeExpired();
+
+        assertThat(entry).isNull();
+        assertThat(repository.findById("expired")).isEmpty();
+    }
+}
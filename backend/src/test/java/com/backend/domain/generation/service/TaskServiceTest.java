@@ -0,0 +1,144 @@
+package com.backend.domain.generation.service;
+
+import com.backend.domain.generation.async.CompletedTask;
+import com.backend.domain.generation.async.TaskEntry;
+import com.backend.domain.generation.async.TaskResult;
+import com.backend.domain.generation.async.TaskStatus;
+import com.backend.global.config.CacheConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class TaskServiceTest {
+
+    private static final int MAX_COMPLETED = 2;
+
+    private SimpleMeterRegistry meterRegistry;
+    private Cache<String, TaskEntry> taskCache;
+    private TaskService taskService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        taskCache = new CacheConfig().taskCache(meterRegistry, MAX_COMPLETED, Duration.ofMinutes(10), Duration.ofHours(1));
+        taskService = new TaskService(new LocalTaskStore(taskCache), Runnable::run, meterRegistry, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("진행 중인 작업은 저장소 용량을 넘어도 제거/취소되지 않는다")
+    void inFlightTasks_surviveSizeOverflow() {
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < MAX_COMPLETED * 5; i++) {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            futures.add(future);
+            taskIds.add(taskService.submitTask(future));
+        }
+        taskCache.cleanUp();
+
+        assertThat(taskCache.estimatedSize()).isEqualTo(MAX_COMPLETED * 5);
+        assertThat(futures).noneMatch(CompletableFuture::isCancelled);
+        assertThat(taskIds).allSatisfy(taskId ->
+                assertThat(taskService.getTaskResult(taskId).getStatus()).isEqualTo(TaskStatus.RUNNING));
+    }
+
+    @Test
+    @DisplayName("완료된 작업만 용량 한도에 따라 제거되고 제거 사유가 기록된다")
+    void completedTasks_areEvictedBySize() {
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < MAX_COMPLETED * 3; i++) {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            futures.add(future);
+            taskService.submitTask(future);
+        }
+        CompletableFuture<String> stillRunning = new CompletableFuture<>();
+        String runningTaskId = taskService.submitTask(stillRunning);
+
+        futures.forEach(future -> future.complete("done"));
+        taskCache.cleanUp();
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            taskCache.cleanUp();
+            assertThat(taskCache.estimatedSize()).isEqualTo(MAX_COMPLETED + 1);
+            assertThat(meterRegistry.counter("generation.task.evictions", "cause", "SIZE").count())
+                    .isEqualTo(MAX_COMPLETED * 2);
+        });
+        assertThat(taskCache.getIfPresent(runningTaskId)).isEqualTo(new TaskEntry.Running(stillRunning));
+    }
+
+    @Test
+    @DisplayName("완료된 작업은 Future 대신 직렬화된 결과로 보관되고, 큰 결과는 압축된다")
+    void completedTask_isStoredAsSerializedBytes() throws Exception {
+        CompletableFuture<Map<String, String>> small = new CompletableFuture<>();
+        CompletableFuture<Map<String, String>> large = new CompletableFuture<>();
+        String smallTaskId = taskService.submitTask(small);
+        String largeTaskId = taskService.submitTask(large);
+
+        small.complete(Map.of("productName", "TEST_PRODUCT"));
+        large.complete(Map.of("specification", "정격 전압: 220V, ".repeat(200)));
+
+        assertThat(taskCache.getIfPresent(smallTaskId)).isInstanceOfSatisfying(CompletedTask.class, completed ->
+                assertThat(completed.compressed()).isFalse());
+        assertThat(taskCache.getIfPresent(largeTaskId)).isInstanceOfSatisfying(CompletedTask.class, completed ->
+                assertThat(completed.compressed()).isTrue());
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        TaskResult<?> largeResult = taskService.getTaskResult(largeTaskId);
+        assertThat(largeResult.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(largeResult)).path("result").path("specification").asText())
+                .isEqualTo(large.join().get("specification"));
+        assertThat(objectMapper.writeValueAsString(taskService.getTaskResult(smallTaskId)))
+                .isEqualTo("{\"status\":\"COMPLETED\",\"result\":{\"productName\":\"TEST_PRODUCT\"}}");
+    }
+
+    @Test
+    @DisplayName("실패/취소된 작업은 상태와 오류 메시지만 남긴다")
+    void failedAndCancelledTasks_keepOnlyStatus() {
+        CompletableFuture<String> failing = new CompletableFuture<>();
+        CompletableFuture<String> cancelling = new CompletableFuture<>();
+        String failedTaskId = taskService.submitTask(failing);
+        String cancelledTaskId = taskService.submitTask(cancelling);
+
+        failing.completeExceptionally(new IllegalStateException("AI 응답 오류"));
+        taskService.cancelTask(cancelledTaskId);
+
+        assertThat(taskCache.getIfPresent(failedTaskId)).isInstanceOf(CompletedTask.class);
+        assertThat(taskService.getTaskResult(failedTaskId).getError()).isEqualTo("AI 응답 오류");
+        assertThat(taskService.getTaskResult(cancelledTaskId).getStatus()).isEqualTo(TaskStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("완료 결과 보관은 Future를 완료한 스레드가 아닌 저장소 실행기에서 처리한다")
+    void completion_isStoredOnStoreExecutor() {
+        List<Runnable> storeTasks = new ArrayList<>();
+        TaskService service = new TaskService(
+                new LocalTaskStore(taskCache),
+                storeTasks::add,
+                meterRegistry,
+                new ObjectMapper()
+        );
+        CompletableFuture<String> future = new CompletableFuture<>();
+        String taskId = service.submitTask(future);
+
+        future.complete("done");
+
+        // 완료 스레드에서는 아직 보관하지 않는다
+        assertThat(taskCache.getIfPresent(taskId)).isInstanceOf(TaskEntry.Running.class);
+        assertThat(service.getTaskResult(taskId).getStatus()).isEqualTo(TaskStatus.COMPLETED);
+
+        List.copyOf(storeTasks).forEach(Runnable::run);
+        assertThat(taskCache.getIfPresent(taskId)).isInstanceOf(CompletedTask.class);
+    }
+}
@@ -0,0 +1,161 @@
+package com.backend.domain.generation.service.impl;
+
+import com.backend.domain.generation.dto.CertificationResponse;
+import com.backend.global.util.PromptBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class AbstractGenerationServiceCancellationTest {
+
+    private static final int CONCURRENCY_LIMIT = 2;
+    private static final int CALLS = 20;
+
+    private MockWebServer mockWebServer;
+    private StallingDispatcher dispatcher;
+    private SimpleMeterRegistry meterRegistry;
+    private StalledAiProviderService providerService;
+    // 취소로 반납된 허가를 다음 대기자에게 넘기는 작업 (테스트에서 직접 실행)
+    private final List<Runnable> pendingHandoffs = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dispatcher = new StallingDispatcher();
+        mockWebServer = new MockWebServer();
+        mockWebServer.setDispatcher(dispatcher);
+        mockWebServer.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        providerService = new StalledAiProviderService(
+                new PromptBuilder(),
+                new ObjectMapper(),
+                WebClient.builder().build(),
+                mockWebServer.url("/v1/generation").toString(),
+                meterRegistry,
+                Schedulers.fromExecutor(pendingHandoffs::add)
+        );
+        ReflectionTestUtils.setField(providerService, "retryMaxAttempts", 0L);
+        ReflectionTestUtils.setField(providerService, "concurrencyLimitEnabled", true);
+        ReflectionTestUtils.setField(providerService, "concurrencyInitialLimit", CONCURRENCY_LIMIT);
+        ReflectionTestUtils.setField(providerService, "concurrencyMinLimit", CONCURRENCY_LIMIT);
+        ReflectionTestUtils.setField(providerService, "concurrencyMaxLimit", CONCURRENCY_LIMIT);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    @DisplayName("응답 없는 상류에 몰린 호출을 취소하면 연결/동시성 허가/대기열이 즉시 비워져 다음 호출이 바로 처리된다")
+    void cancel_releasesUpstreamCapacityUnderLoad() {
+        List<CompletableFuture<CertificationResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLS; i++) {
+            futures.add(providerService.fetchCertification("MODEL-" + i));
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> mockWebServer.getRequestCount() == CONCURRENCY_LIMIT);
+        assertThat(gauge("generation.ai.concurrency.in-flight")).isEqualTo(CONCURRENCY_LIMIT);
+        assertThat(gauge("generation.ai.concurrency.queue")).isEqualTo(CALLS - CONCURRENCY_LIMIT);
+
+        futures.forEach(future -> future.cancel(true));
+
+        assertThat(gauge("generation.ai.concurrency.in-flight")).isZero();
+        assertThat(gauge("generation.ai.concurrency.queue")).isZero();
+        assertThat(meterRegistry.get("generation.ai.cancelled").counter().count()).isEqualTo(CALLS);
+        // 다음 틱으로 미뤄진 허가는 이미 취소된 대기자에게 가지 않는다
+        List.copyOf(pendingHandoffs).forEach(Runnable::run);
+        assertThat(gauge("generation.ai.concurrency.in-flight")).isZero();
+
+        // 취소된 호출이 허가를 붙잡고 있었다면 한도가 가득 차 대기 시간(10초)까지 기다려야 한다
+        dispatcher.stalling = false;
+        CertificationResponse response = providerService.fetchCertification("AX40R3080WMD").orTimeout(5, TimeUnit.SECONDS).join();
+
+        assertThat(response.getKcCertificationNumber()).isEqualTo("R-R-TEST");
+        // 대기열에서 취소된 호출은 상류로 나가지 않는다 (멈춘 2건 + 다음 호출 1건)
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(CONCURRENCY_LIMIT + 1);
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("provider", "StalledAiProviderService").gauge().value();
+    }
+
+    private static final class StalledAiProviderService extends AbstractGenerationService {
+
+        private final String apiUrl;
+
+        private StalledAiProviderService(
+                PromptBuilder promptBuilder,
+                ObjectMapper objectMapper,
+                WebClient webClient,
+                String apiUrl,
+                MeterRegistry meterRegistry,
+                Scheduler handoffScheduler
+        ) {
+            super(promptBuilder, objectMapper, webClient, meterRegistry, handoffScheduler);
+            this.apiUrl = apiUrl;
+        }
+
+        @Override
+        protected String getApiUrl() {
+            return apiUrl;
+        }
+
+        @Override
+        protected HttpEntity<Object> createRequestEntity(String prompt) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            return new HttpEntity<>(Map.of("prompt", prompt), headers);
+        }
+
+        @Override
+        protected String extractTextFromResponse(String jsonResponse) throws Exception {
+            return objectMapper.readTree(jsonResponse).path("text").asText();
+        }
+    }
+
+    private static final class StallingDispatcher extends Dispatcher {
+
+        private volatile boolean stalling = true;
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            if (stalling) {
+                // 요청만 받고 응답하지 않는 상류 (클라이언트가 연결을 끊을 때까지 대기)
+                return new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE);
+            }
+            String certJson = "{\\\"katsCertificationNumber\\\":\\\"\\\",\\\"kcCertificationNumber\\\":\\\"R-R-TEST\\\"}";
+            return new MockResponse()
+                    .setResponseCode(200)
+                    .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .setBody("{\"text\":\"" + certJson + "\"}");
+        }
+    }
+}
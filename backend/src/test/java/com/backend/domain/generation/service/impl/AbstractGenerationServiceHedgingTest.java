@@ -0,0 +1,168 @@
+package com.backend.domain.generation.service.impl;
+
+import com.backend.domain.generation.dto.CertificationResponse;
+import com.backend.global.util.PromptBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AbstractGenerationServiceHedgingTest {
+
+    private static final int SLOW_REQUEST_NUMBER = 4;
+
+    private MockWebServer mockWebServer;
+    private SimpleMeterRegistry meterRegistry;
+    private HedgedAiProviderService providerService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.setDispatcher(new SlowOnceDispatcher());
+        mockWebServer.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        providerService = new HedgedAiProviderService(
+                new PromptBuilder(),
+                new ObjectMapper(),
+                WebClient.builder().build(),
+                mockWebServer.url("/v1/generation").toString(),
+                meterRegistry
+        );
+        ReflectionTestUtils.setField(providerService, "hedgingEnabled", true);
+        ReflectionTestUtils.setField(providerService, "hedgingMinSamples", 3);
+        ReflectionTestUtils.setField(providerService, "hedgingMinDelay", Duration.ofMillis(200));
+        ReflectionTestUtils.setField(providerService, "hedgingBudgetRatio", 1.0);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    @DisplayName("원 요청이 지연되면 헤징 요청의 응답을 사용하고 헤징 지표를 남긴다")
+    void fetchCertification_usesHedgedResponseWhenPrimaryIsSlow() {
+        for (int i = 0; i < SLOW_REQUEST_NUMBER - 1; i++) {
+            providerService.fetchCertification("WARMUP").join();
+        }
+
+        CertificationResponse response = providerService.fetchCertification("AX40R3080WMD").join();
+
+        // 느린 원 요청 1건 + 헤징 요청 1건이 나가고, 응답은 헤징 요청이 가져온다
+        assertThat(response.getKcCertificationNumber()).isEqualTo("R-R-TEST");
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(SLOW_REQUEST_NUMBER + 1);
+        assertThat(meterRegistry.get("generation.ai.hedge.requests").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("generation.ai.hedge.wins").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("헤징 요청이 진행 중일 때 원 요청이 실패하면 헤징 요청의 응답을 사용한다")
+    void fetchCertification_usesHedgedResponseWhenPrimaryFails() {
+        mockWebServer.setDispatcher(new FailingPrimaryDispatcher());
+        ReflectionTestUtils.setField(providerService, "retryMaxAttempts", 0L);
+        for (int i = 0; i < SLOW_REQUEST_NUMBER - 1; i++) {
+            providerService.fetchCertification("WARMUP").join();
+        }
+
+        CertificationResponse response = providerService.fetchCertification("AX40R3080WMD").join();
+
+        assertThat(response.getKcCertificationNumber()).isEqualTo("R-R-TEST");
+        assertThat(mockWebServer.getRequestCount()).isEqualTo(SLOW_REQUEST_NUMBER + 1);
+        assertThat(meterRegistry.get("generation.ai.hedge.requests").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("generation.ai.hedge.wins").counter().count()).isEqualTo(1.0);
+    }
+
+    private static MockResponse certificationResponse() {
+        String certJson = "{\\\"katsCertificationNumber\\\":\\\"\\\",\\\"kcCertificationNumber\\\":\\\"R-R-TEST\\\"}";
+        return new MockResponse()
+                .setResponseCode(200)
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody("{\"text\":\"" + certJson + "\"}");
+    }
+
+    private static final class HedgedAiProviderService extends AbstractGenerationService {
+
+        private final String apiUrl;
+
+        private HedgedAiProviderService(
+                PromptBuilder promptBuilder,
+                ObjectMapper objectMapper,
+                WebClient webClient,
+                String apiUrl,
+                MeterRegistry meterRegistry
+        ) {
+            super(promptBuilder, objectMapper, webClient, meterRegistry);
+            this.apiUrl = apiUrl;
+        }
+
+        @Override
+        protected String getApiUrl() {
+            return apiUrl;
+        }
+
+        @Override
+        protected HttpEntity<Object> createRequestEntity(String prompt) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            return new HttpEntity<>(Map.of("prompt", prompt), headers);
+        }
+
+        @Override
+        protected String extractTextFromResponse(String jsonResponse) throws Exception {
+            return objectMapper.readTree(jsonResponse).path("text").asText();
+        }
+    }
+
+    private static final class SlowOnceDispatcher extends Dispatcher {
+
+        private final AtomicInteger requestCount = new AtomicInteger();
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            int requestNumber = requestCount.incrementAndGet();
+            long delayMillis = requestNumber == SLOW_REQUEST_NUMBER ? 5_000 : 50;
+            return certificationResponse().setBodyDelay(delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 원 요청은 헤징 요청이 나간 뒤 500으로 실패하고, 헤징 요청은 그보다 늦게 성공한다.
+     */
+    private static final class FailingPrimaryDispatcher extends Dispatcher {
+
+        private final AtomicInteger requestCount = new AtomicInteger();
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            int requestNumber = requestCount.incrementAndGet();
+            if (requestNumber < SLOW_REQUEST_NUMBER) {
+                return certificationResponse().setBodyDelay(50, TimeUnit.MILLISECONDS);
+            }
+            if (requestNumber == SLOW_REQUEST_NUMBER) {
+                return new MockResponse().setResponseCode(500).setHeadersDelay(600, TimeUnit.MILLISECONDS);
+            }
+            return certificationResponse().setBodyDelay(800, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.backend.domain.generation.service.impl;
+
+import com.backend.domain.generation.dto.CertificationResponse;
+import com.backend.global.util.PromptBuilder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AbstractGenerationServiceStreamingTest {
+
+    private MockWebServer mockWebServer;
+    private StreamingAiProviderService providerService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        providerService = new StreamingAiProviderService(
+                new PromptBuilder(),
+                objectMapper,
+                WebClient.builder().build(),
+                mockWebServer.url("/v1/stream").toString()
+        );
+        ReflectionTestUtils.setField(providerService, "streamingEnabled", true);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    @DisplayName("스트리밍 모드는 첫 Json 객체가 완성되면 뒤따르는 메타데이터를 기다리지 않고 완료된다")
+    void fetchCertification_completesBeforeTrailingMetadata() {
+        StringBuilder sse = new StringBuilder()
+                .append(event("```json\\n{\\\"katsCertificationNumber\\\":\\\"KATS-"))
+                .append(event("TEST\\\",\\\"kcCertificationNumber\\\":\\\"R-R-TEST\\\"}\\n```"));
+        // 느리게 흘러오는 대용량 grounding 메타데이터 (끝까지 받으려면 약 2초 이상 소요)
+        String padding = "x".repeat(20_000);
+        sse.append("data: {\"groundingMetadata\":\"").append(padding).append("\"}\n\n");
+
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                .setBody(sse.toString())
+                .throttleBody(1024, 100, TimeUnit.MILLISECONDS));
+
+        CertificationResponse response = providerService.fetchCertification("AX40R3080WMD").join();
+
+        assertThat(response.getKatsCertificationNumber()).isEqualTo("KATS-TEST");
+        assertThat(response.getKcCertificationNumber()).isEqualTo("R-R-TEST");
+        // Json이 완성된 두 번째 조각에서 멈추고 메타데이터 조각은 읽지 않는다
+        assertThat(providerService.parsedChunks.get()).isEqualTo(2);
+    }
+
+    private static String event(String escapedText) {
+        return "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + escapedText + "\"}]}}]}\n\n";
+    }
+
+    private static final class StreamingAiProviderService extends AbstractGenerationService implements StreamingAiProvider {
+
+        private final String apiUrl;
+        private final AtomicInteger parsedChunks = new AtomicInteger();
+
+        private StreamingAiProviderService(
+                PromptBuilder promptBuilder,
+                ObjectMapper objectMapper,
+                WebClient webClient,
+                String apiUrl
+        ) {
+            super(promptBuilder, objectMapper, webClient, new SimpleMeterRegistry());
+            this.apiUrl = apiUrl;
+        }
+
+        @Override
+        protected String getApiUrl() {
+            return apiUrl;
+        }
+
+        @Override
+        public String getStreamApiUrl() {
+            return apiUrl;
+        }
+
+        @Override
+        protected HttpEntity<Object> createRequestEntity(String prompt) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            return new HttpEntity<>(Map.of("prompt", prompt), headers);
+        }
+
+        @Override
+        protected String extractTextFromResponse(String jsonResponse) {
+            throw new UnsupportedOperationException("streaming only");
+        }
+
+        @Override
+        public String extractTextFromStreamChunk(String chunkJson) throws Exception {
+            parsedChunks.incrementAndGet();
+            JsonNode parts = objectMapper.readTree(chunkJson).path("candidates").path(0).path("content").path("parts");
+            StringBuilder text = new StringBuilder();
+            for (JsonNode part : parts) {
+                text.append(part.path("text").asText(""));
+            }
+            return text.toString();
+        }
+    }
+}
@@ -46,7 +46,16 @@ class AbstractGenerationServiceTest {
                 .isInstanceOf(GenerateApiException.class)
                 .hasMessageContaining("JSON");
     }
-}
 
+    @Test
+    @DisplayName("조각으로 나뉘어 들어와도 첫 Json 객체가 닫히는 즉시 반환한다")
+    void incrementalExtractor_withSplitChunks_completesOnClosingBrace() {
+        IncrementalJsonObjectExtractor extractor = new IncrementalJsonObjectExtractor();
 
+        assertThat(extractor.append("```json\n{\"specification\":\"정격: {2")).isNull();
+        assertThat(extractor.append("20V}\",\"manufacturer\":\"SAM\\\"")).isNull();
+        String extracted = extractor.append("SUNG\"}\n```\n{\"ignored\":true}");
 
+        assertThat(extracted).isEqualTo("{\"specification\":\"정격: {220V}\",\"manufacturer\":\"SAM\\\"SUNG\"}");
+    }
+}
@@ -0,0 +1,195 @@
+package com.backend.domain.generation.service.impl;
+
+import com.backend.domain.generation.async.WorkPriority;
+import com.backend.domain.member.entity.Role;
+import com.backend.global.exception.GenerateApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 호출은 대기열에서 기다리다 반납 시 허가되고, 대기열도 가득 차면 거절된다")
+    void acquire_queuesThenRejectsExcessCalls() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 10, 1, 2.0, meterRegistry);
+        AdaptiveConcurrencyLimiter.Permit first = limiter.acquire(Duration.ofSeconds(1)).block();
+        limiter.acquire(Duration.ofSeconds(1)).block();
+
+        AtomicReference<AdaptiveConcurrencyLimiter.Permit> queued = new AtomicReference<>();
+        Disposable waiting = limiter.acquire(Duration.ofSeconds(5)).subscribe(queued::set);
+        assertThat(queued.get()).isNull();
+        assertThat(gauge("generation.ai.concurrency.queue")).isEqualTo(1.0);
+
+        StepVerifier.create(limiter.acquire(Duration.ofSeconds(1)))
+                .expectError(GenerateApiException.class)
+                .verify();
+
+        first.release(AdaptiveConcurrencyLimiter.Outcome.IGNORE);
+        assertThat(queued.get()).isNotNull();
+        assertThat(gauge("generation.ai.concurrency.queue")).isZero();
+        assertThat(gauge("generation.ai.concurrency.in-flight")).isEqualTo(2.0);
+        assertThat(meterRegistry.get("generation.ai.concurrency.rejected").counter().count()).isEqualTo(1.0);
+        waiting.dispose();
+    }
+
+    @Test
+    @DisplayName("대기 시간이 초과되면 거절되고 대기열에서 제거된다")
+    void acquire_rejectsAfterQueueWait() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 1, 1, 10, 10, 2.0, meterRegistry);
+        limiter.acquire(Duration.ofSeconds(1)).block();
+
+        StepVerifier.create(limiter.acquire(Duration.ofMillis(100)))
+                .expectError(GenerateApiException.class)
+                .verify(Duration.ofSeconds(2));
+        assertThat(gauge("generation.ai.concurrency.queue")).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 중인 호출은 먼저 온 순서가 아니라 플랜 가중치 순서로 허가된다")
+    void acquire_grantsQueuedCallsByPlanWeight() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 1, 1, 1, 10, 2.0, meterRegistry);
+        AdaptiveConcurrencyLimiter.Permit running = limiter.acquire(Duration.ofSeconds(1)).block();
+
+        List<String> granted = new CopyOnWriteArrayList<>();
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new CopyOnWriteArrayList<>();
+        limiter.acquire(Duration.ofSeconds(5), WorkPriority.of(1L, Role.FREE_USER))
+                .subscribe(permit -> { granted.add("free"); permits.add(permit); });
+        limiter.acquire(Duration.ofSeconds(5), WorkPriority.of(2L, Role.PLAN_100K))
+                .subscribe(permit -> { granted.add("paid"); permits.add(permit); });
+
+        running.release(AdaptiveConcurrencyLimiter.Outcome.IGNORE);
+        permits.get(0).release(AdaptiveConcurrencyLimiter.Outcome.IGNORE);
+
+        assertThat(granted).containsExactly("paid", "free");
+        assertThat(meterRegistry.get("generation.ai.concurrency.queue.wait").tag("tier", "PLAN_100K").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("429/5xx/타임아웃 결과가 반납되면 한도를 줄인다")
+    void release_overloadShrinksLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 2, 20, 10, 2.0, meterRegistry);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(Duration.ofSeconds(1)).block().release(AdaptiveConcurrencyLimiter.Outcome.OVERLOAD);
+        }
+
+        assertThat(gauge("generation.ai.concurrency.limit")).isLessThan(6.0);
+        assertThat(gauge("generation.ai.concurrency.in-flight")).isZero();
+    }
+
+    @Test
+    @DisplayName("지연이 일정하게 유지되는 동안 한도를 활용하면 한도를 늘린다")
+    void release_flatLatencyGrowsLimit() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 20, 10, 2.0, meterRegistry);
+
+        for (int i = 0; i < 20; i++) {
+            AdaptiveConcurrencyLimiter.Permit first = limiter.acquire(Duration.ofSeconds(1)).block();
+            AdaptiveConcurrencyLimiter.Permit second = limiter.acquire(Duration.ofSeconds(1)).block();
+            Thread.sleep(5);
+            first.release(AdaptiveConcurrencyLimiter.Outcome.SUCCESS);
+            second.release(AdaptiveConcurrencyLimiter.Outcome.SUCCESS);
+        }
+
+        assertThat(gauge("generation.ai.concurrency.limit")).isGreaterThan(2.0);
+    }
+
+    @Test
+    @DisplayName("짧은 호출과 긴 호출이 섞여도 종류별 지연이 일정하면 한도를 줄이지 않는다")
+    void release_mixedLatencyClassesDoNotShrinkLimit() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                "test", 4, 1, 20, 10, 2.0, meterRegistry, Schedulers.parallel(), clock::get);
+
+        for (int i = 0; i < 50; i++) {
+            // 인증번호처럼 짧은 호출(1초)과 메인 스펙처럼 긴 호출(12초)이 번갈아 끝난다
+            AdaptiveConcurrencyLimiter.Permit shortCall = limiter.acquire(Duration.ofSeconds(1), null, "short").block();
+            AdaptiveConcurrencyLimiter.Permit longCall = limiter.acquire(Duration.ofSeconds(1), null, "long").block();
+            clock.addAndGet(Duration.ofSeconds(1).toNanos());
+            shortCall.release(AdaptiveConcurrencyLimiter.Outcome.SUCCESS);
+            clock.addAndGet(Duration.ofSeconds(11).toNanos());
+            longCall.release(AdaptiveConcurrencyLimiter.Outcome.SUCCESS);
+        }
+
+        assertThat(gauge("generation.ai.concurrency.limit")).isGreaterThanOrEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("같은 종류의 호출 지연이 기준치의 허용 배수를 넘어 부풀면 한도를 줄인다")
+    void release_inflatedLatencyWithinOperationShrinksLimit() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                "test", 10, 1, 20, 10, 2.0, meterRegistry, Schedulers.parallel(), clock::get);
+
+        AdaptiveConcurrencyLimiter.Permit baseline = limiter.acquire(Duration.ofSeconds(1), null, "short").block();
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        baseline.release(AdaptiveConcurrencyLimiter.Outcome.SUCCESS);
+        for (int i = 0; i < 20; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire(Duration.ofSeconds(1), null, "short").block();
+            clock.addAndGet(Duration.ofSeconds(5).toNanos());
+            permit.release(AdaptiveConcurrencyLimiter.Outcome.SUCCESS);
+        }
+
+        assertThat(gauge("generation.ai.concurrency.limit")).isLessThan(10.0);
+    }
+
+    @Test
+    @DisplayName("취소로 반납된 허가는 다음 틱에 넘기고, 그 전에 취소된 대기자는 건너뛴다")
+    void release_cancelledHandsOffOnNextTick() {
+        List<Runnable> handoffs = new ArrayList<>();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                "test", 1, 1, 1, 10, 2.0, meterRegistry, Schedulers.fromExecutor(handoffs::add), System::nanoTime);
+        AdaptiveConcurrencyLimiter.Permit running = limiter.acquire(Duration.ofSeconds(1)).block();
+
+        List<AdaptiveConcurrencyLimiter.Permit> granted = new CopyOnWriteArrayList<>();
+        Disposable cancelledWaiter = limiter.acquire(Duration.ofSeconds(5)).subscribe(granted::add);
+        limiter.acquire(Duration.ofSeconds(5)).subscribe(granted::add);
+
+        running.release(AdaptiveConcurrencyLimiter.Outcome.CANCELLED);
+        assertThat(granted).isEmpty();
+        cancelledWaiter.dispose();
+
+        // 먼저 배정된 대기자는 넘겨받기 전에 취소되어 허가가 다음 대기자에게 넘어간다
+        List.copyOf(handoffs).forEach(Runnable::run);
+        assertThat(granted).hasSize(1);
+        assertThat(gauge("generation.ai.concurrency.in-flight")).isEqualTo(1.0);
+        assertThat(gauge("generation.ai.concurrency.queue")).isZero();
+    }
+
+    @Test
+    @DisplayName("반납은 한 번만 반영된다")
+    void release_isIdempotent() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 10, 1, 2.0, meterRegistry);
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire(Duration.ofSeconds(1)).block();
+
+        permit.release(AdaptiveConcurrencyLimiter.Outcome.IGNORE);
+        permit.release(AdaptiveConcurrencyLimiter.Outcome.IGNORE);
+
+        assertThat(gauge("generation.ai.concurrency.in-flight")).isZero();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("provider", "test").gauge().value();
+    }
+}
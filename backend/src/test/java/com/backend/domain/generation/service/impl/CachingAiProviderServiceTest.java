@@ -0,0 +1,79 @@
+package com.backend.domain.generation.service.impl;
+
+import com.backend.domain.generation.dto.GenerateElectronicResponse;
+import com.backend.domain.generation.service.AiProviderService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingAiProviderServiceTest {
+
+    private AiProviderService delegate;
+    private Cache<String, GenerateElectronicResponse> mainSpecCache;
+    private CachingAiProviderService service;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(AiProviderService.class);
+        mainSpecCache = Caffeine.newBuilder().maximumSize(100).recordStats().build();
+        service = new CachingAiProviderService(delegate, mainSpecCache);
+    }
+
+    @Test
+    @DisplayName("같은 모델과 예시로 다시 요청하면 AI를 호출하지 않고 캐시에서 응답한다")
+    void fetchMainSpec_returnsCachedResultOnRepeat() {
+        when(delegate.fetchMainSpec(anyString(), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(response("AX40R3080WMD")));
+
+        GenerateElectronicResponse first = service.fetchMainSpec("AX40R3080WMD", "spec", "name").join();
+        GenerateElectronicResponse second = service.fetchMainSpec("ax40r3080wmd", "spec", "name").join();
+
+        assertThat(second.getProductName()).isEqualTo(first.getProductName());
+        assertThat(mainSpecCache.stats().hitCount()).isEqualTo(1);
+        verify(delegate, times(1)).fetchMainSpec(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("캐시 적중 결과를 수정해도 캐시 원본은 바뀌지 않는다")
+    void fetchMainSpec_returnsDefensiveCopy() {
+        when(delegate.fetchMainSpec(anyString(), anyString(), anyString(), any()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(response("AX40R3080WMD")));
+
+        service.fetchMainSpec("AX40R3080WMD", "spec", "name").join()
+                .setG2bClassificationNumber("23642147");
+        GenerateElectronicResponse cached = service.fetchMainSpec("AX40R3080WMD", "spec", "name").join();
+
+        assertThat(cached.getG2bClassificationNumber()).isNull();
+    }
+
+    @Test
+    @DisplayName("규격 예시가 다르면 다른 캐시 키로 취급한다")
+    void mainSpecCacheKey_differsBySpecExample() {
+        String key1 = CachingAiProviderService.mainSpecCacheKey("AX-40R 3080", "spec-a", null);
+        String key2 = CachingAiProviderService.mainSpecCacheKey("ax40r3080", "spec-a", "");
+        String key3 = CachingAiProviderService.mainSpecCacheKey("AX40R3080", "spec-b", "");
+
+        assertThat(key1).isEqualTo(key2);
+        assertThat(key1).isNotEqualTo(key3);
+    }
+
+    private static GenerateElectronicResponse response(String modelName) {
+        GenerateElectronicResponse response = new GenerateElectronicResponse();
+        response.setModelName(modelName);
+        response.setProductName("삼성 공기청정기");
+        response.setSpecification("sample");
+        return response;
+    }
+}
@@ -0,0 +1,159 @@
+package com.backend.domain.generation.service.impl;
+
+import com.backend.domain.generation.dto.GenerateNonElectronicResponse;
+import com.backend.global.util.PromptBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 로컬 스텁 서버로 Gemini cachedContents 등록/참조/갱신 흐름을 검증한다.
+ */
+class GeminiContextCacheTest {
+
+    private MockWebServer mockWebServer;
+    private StubGeminiDispatcher dispatcher;
+    private GeminiService geminiService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dispatcher = new StubGeminiDispatcher();
+        mockWebServer = new MockWebServer();
+        mockWebServer.setDispatcher(dispatcher);
+        mockWebServer.start();
+
+        geminiService = new GeminiService(new PromptBuilder(), new ObjectMapper(), WebClient.builder().build(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(geminiService, "apiUrl",
+                mockWebServer.url("/v1beta/models/test-model:generateContent").toString());
+        ReflectionTestUtils.setField(geminiService, "apiKey", "test-key");
+        ReflectionTestUtils.setField(geminiService, "temperature", 0.5);
+        ReflectionTestUtils.setField(geminiService, "maxOutputTokens", 1024);
+        ReflectionTestUtils.setField(geminiService, "contextCacheEnabled", true);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    @DisplayName("고정 지시문을 캐시로 등록한 뒤에는 캐시 이름과 가변 부분만 전송한다")
+    void fetchGeneralSpec_referencesCachedPrefix() {
+        dispatcher.expireIn = Duration.ofHours(1);
+
+        fetch("텀블러 500ml");
+        await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.cacheCreations.get() == 1);
+        fetch("텀블러 700ml");
+
+        String fullRequest = dispatcher.generateBodies.get(0);
+        String cachedRequest = dispatcher.generateBodies.get(1);
+        String creationRequest = dispatcher.cacheBodies.get(0);
+
+        assertThat(fullRequest).contains("google_search").contains("[정보 탐색 규칙]").doesNotContain("cachedContent");
+        assertThat(cachedRequest).contains("\"cachedContent\":\"cachedContents/test-1\"")
+                .contains("텀블러 700ml")
+                .doesNotContain("[정보 탐색 규칙]")
+                .doesNotContain("google_search");
+        assertThat(creationRequest).contains("\"model\":\"models/test-model\"")
+                .contains("[정보 탐색 규칙]")
+                .contains("google_search")
+                .contains("\"ttl\":\"3600s\"");
+        assertThat(dispatcher.cachePaths.get(0)).isEqualTo("/v1beta/cachedContents?key=test-key");
+        assertThat(cachedRequest.length()).isLessThan(fullRequest.length() / 2);
+    }
+
+    @Test
+    @DisplayName("만료가 가까운 캐시는 계속 사용하면서 새 핸들을 미리 등록한다")
+    void fetchGeneralSpec_refreshesHandleBeforeExpiry() {
+        dispatcher.expireIn = Duration.ofMinutes(5);
+
+        fetch("텀블러 500ml");
+        await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.cacheCreations.get() == 1);
+        fetch("텀블러 700ml");
+        await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.cacheCreations.get() == 2);
+        fetch("텀블러 900ml");
+
+        assertThat(dispatcher.generateBodies.get(1)).contains("cachedContents/test-1");
+        assertThat(dispatcher.generateBodies.get(2)).contains("cachedContents/test-2");
+    }
+
+    @Test
+    @DisplayName("캐시 등록에 실패하면 전체 프롬프트로 전송하고 대기 시간 동안 재등록하지 않는다")
+    void fetchGeneralSpec_fallsBackWhenCacheCreationFails() throws InterruptedException {
+        dispatcher.failCreation = true;
+
+        fetch("텀블러 500ml");
+        await().atMost(Duration.ofSeconds(5)).until(() -> dispatcher.cacheCreations.get() == 1);
+        // 실패 응답이 클라이언트에서 처리(재시도 대기 시간 기록)될 때까지 잠시 대기
+        Thread.sleep(300);
+        fetch("텀블러 700ml");
+
+        assertThat(dispatcher.cacheCreations.get()).isEqualTo(1);
+        assertThat(dispatcher.generateBodies.get(1)).contains("[정보 탐색 규칙]").doesNotContain("cachedContent");
+    }
+
+    private void fetch(String productName) {
+        GenerateNonElectronicResponse response = geminiService.fetchGeneralSpec(productName, "용량: {용량}").join();
+        assertThat(response.getProductName()).isEqualTo("TEST_PRODUCT");
+    }
+
+    private static final class StubGeminiDispatcher extends Dispatcher {
+
+        private final AtomicInteger cacheCreations = new AtomicInteger();
+        private final List<String> cachePaths = new CopyOnWriteArrayList<>();
+        private final List<String> cacheBodies = new CopyOnWriteArrayList<>();
+        private final List<String> generateBodies = new CopyOnWriteArrayList<>();
+        private volatile Duration expireIn = Duration.ofHours(1);
+        private volatile boolean failCreation = false;
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            String path = request.getPath();
+            String body = request.getBody().readUtf8();
+
+            if (path != null && path.startsWith("/v1beta/cachedContents")) {
+                int number = cacheCreations.incrementAndGet();
+                cachePaths.add(path);
+                cacheBodies.add(body);
+                if (failCreation) {
+                    return json(400, "{\"error\":{\"message\":\"Cached content is too small\"}}");
+                }
+                return json(200, "{\"name\":\"cachedContents/test-" + number + "\","
+                        + "\"expireTime\":\"" + Instant.now().plus(expireIn) + "\"}");
+            }
+
+            generateBodies.add(body);
+            String innerJson = "{\\\"productName\\\":\\\"TEST_PRODUCT\\\",\\\"specification\\\":\\\"용량: 500ml\\\","
+                    + "\\\"manufacturer\\\":\\\"\\\",\\\"countryOfOrigin\\\":\\\"\\\"}";
+            return json(200, "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + innerJson + "\"}]}}]}");
+        }
+
+        private static MockResponse json(int status, String body) {
+            return new MockResponse()
+                    .setResponseCode(status)
+                    .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .setBody(body);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.backend.domain.generation.service.impl;
+
+import com.backend.domain.generation.dto.GenerateElectronicResponse;
+import com.backend.global.util.PromptBuilder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 기존 문자열 기반 파싱 경로와 DataBuffer 스트리밍 파싱 경로 비교
+ * 처리 시간/할당량 측정은 benchmark 태그로 분리해 기본 테스트에서 제외한다. (./gradlew benchmark)
+ * (빌드에 JMH가 없어 워밍업 후 반복 측정하는 방식으로 대신한다)
+ */
+class GeminiResponseDecodingBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURE_ITERATIONS = 5_000;
+
+    private ObjectMapper objectMapper;
+    private GeminiService geminiService;
+    private byte[] responseBytes;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        geminiService = new GeminiService(new PromptBuilder(), objectMapper, WebClient.builder().build(), new SimpleMeterRegistry());
+        responseBytes = buildGeminiEnvelope().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("DataBuffer 스트리밍 파싱은 기존 경로와 같은 결과를 만든다")
+    void decodeResponse_matchesLegacyPath() throws Exception {
+        GenerateElectronicResponse legacy = decodeLegacy();
+        GenerateElectronicResponse streaming = decodeStreaming();
+
+        assertThat(streaming).isEqualTo(legacy);
+        assertThat(streaming.getModelName()).isEqualTo("AX40R3080WMD");
+        assertThat(streaming.getSpecification()).isEqualTo("정격: {220V}, 면적: 40㎡");
+    }
+
+    @Test
+    @DisplayName("스트리밍 파싱은 첫 후보의 텍스트만 읽고 뒤따르는 메타데이터는 읽지 않는다")
+    void decodeResponse_stopsBeforeTrailingMetadata() {
+        // 첫 후보의 parts 뒤가 잘린 본문: 메타데이터까지 읽는 경로라면 JSON 오류로 실패한다
+        String body = new String(responseBytes, StandardCharsets.UTF_8);
+        byte[] truncated = body.substring(0, body.indexOf("\"groundingChunks\"") + 20).getBytes(StandardCharsets.UTF_8);
+
+        GenerateElectronicResponse response = geminiService.decodeResponse(
+                DefaultDataBufferFactory.sharedInstance.wrap(truncated),
+                GenerateElectronicResponse.class
+        );
+
+        assertThat(response.getModelName()).isEqualTo("AX40R3080WMD");
+        assertThatThrownBy(() -> geminiService.extractTextFromResponse(new String(truncated, StandardCharsets.UTF_8)))
+                .isInstanceOf(Exception.class);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("기존 경로와 스트리밍 파싱 경로의 처리 시간과 할당량을 비교한다")
+    void compareDecodingPaths() {
+        Measurement legacy = measure(this::decodeLegacyUnchecked);
+        Measurement streaming = measure(this::decodeStreaming);
+
+        System.out.printf(
+                "[DECODING] bodyBytes=%d legacy=%dns/op,%dB/op streaming=%dns/op,%dB/op%n",
+                responseBytes.length,
+                legacy.nanosPerOp, legacy.bytesPerOp,
+                streaming.nanosPerOp, streaming.bytesPerOp
+        );
+        assertThat(streaming.bytesPerOp).isLessThan(legacy.bytesPerOp);
+    }
+
+    private GenerateElectronicResponse decodeLegacy() throws Exception {
+        // bodyToMono(String) -> readTree -> 텍스트 결합 -> 부분 문자열 -> readTree -> treeToValue
+        String body = new String(responseBytes, StandardCharsets.UTF_8);
+        String generatedText = geminiService.extractTextFromResponse(body);
+        String jsonOnly = AbstractGenerationService.extractFirstJsonObject(generatedText);
+        JsonNode jsonNode = objectMapper.readTree(jsonOnly);
+        return objectMapper.treeToValue(jsonNode, GenerateElectronicResponse.class);
+    }
+
+    private GenerateElectronicResponse decodeLegacyUnchecked() {
+        try {
+            return decodeLegacy();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private GenerateElectronicResponse decodeStreaming() {
+        return geminiService.decodeResponse(
+                DefaultDataBufferFactory.sharedInstance.wrap(responseBytes),
+                GenerateElectronicResponse.class
+        );
+    }
+
+    private static Measurement measure(Supplier<GenerateElectronicResponse> decoder) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            decoder.get();
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            decoder.get();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Measurement(elapsedNanos / MEASURE_ITERATIONS, allocated / MEASURE_ITERATIONS);
+    }
+
+    private static String buildGeminiEnvelope() {
+        String innerJson = "{\\\"productName\\\":\\\"삼성전자 비스포크 큐브 공기청정기\\\","
+                + "\\\"specification\\\":\\\"정격: {220V}, 면적: 40㎡\\\","
+                + "\\\"modelName\\\":\\\"AX40R3080WMD\\\","
+                + "\\\"manufacturer\\\":\\\"삼성전자\\\",\\\"countryOfOrigin\\\":\\\"\\\"}";
+
+        StringBuilder groundingChunks = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            if (i > 0) {
+                groundingChunks.append(',');
+            }
+            groundingChunks.append("{\"web\":{\"uri\":\"https://vertexaisearch.cloud.google.com/grounding-api-redirect/")
+                    .append("A".repeat(120)).append(i)
+                    .append("\",\"title\":\"danawa.com\"}}");
+        }
+
+        return "{\"candidates\":[{\"content\":{\"parts\":["
+                + "{\"text\":\"```json\\n" + innerJson + "\\n```\"}"
+                + "],\"role\":\"model\"},\"finishReason\":\"STOP\","
+                + "\"groundingMetadata\":{\"webSearchQueries\":[\"AX40R3080WMD 사양\"],"
+                + "\"groundingChunks\":[" + groundingChunks + "]}}],"
+                + "\"usageMetadata\":{\"promptTokenCount\":812,\"candidatesTokenCount\":96,\"totalTokenCount\":908},"
+                + "\"modelVersion\":\"gemini-3-flash-preview\"}";
+    }
+
+    private record Measurement(long nanosPerOp, long bytesPerOp) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.backend.domain.generation.service.impl;
+
+import com.backend.domain.generation.dto.CertificationResponse;
+import com.backend.domain.generation.dto.G2bProductInfo;
+import com.backend.domain.generation.dto.GenerateElectronicRequest;
+import com.backend.domain.generation.dto.GenerateElectronicResponse;
+import com.backend.domain.generation.service.AiProviderService;
+import com.backend.domain.generation.service.ScrapingService;
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.entity.Role;
+import com.backend.domain.member.service.MemberService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GenerationServiceImplCancellationTest {
+
+    private AiProviderService aiProviderService;
+    private ScrapingService scrapingService;
+    private MemberService memberService;
+    private GenerationServiceImpl service;
+
+    private CompletableFuture<GenerateElectronicResponse> pendingMainSpec;
+    private CompletableFuture<CertificationResponse> pendingCert;
+    private CompletableFuture<G2bProductInfo> pendingG2b;
+
+    @BeforeEach
+    void setUp() {
+        aiProviderService = mock(AiProviderService.class);
+        scrapingService = mock(ScrapingService.class);
+        memberService = mock(MemberService.class);
+        service = new GenerationServiceImpl(
+                aiProviderService,
+                scrapingService,
+                memberService,
+                Runnable::run,
+                mock(ApplicationEventPublisher.class)
+        );
+
+        pendingMainSpec = new CompletableFuture<>();
+        pendingCert = new CompletableFuture<>();
+        pendingG2b = new CompletableFuture<>();
+        when(aiProviderService.fetchMainSpec(anyString(), anyString(), anyString(), any())).thenReturn(pendingMainSpec);
+        when(aiProviderService.fetchCertification(anyString(), any())).thenReturn(pendingCert);
+        when(scrapingService.fetchG2bProductInfo(anyString())).thenReturn(pendingG2b);
+    }
+
+    @Test
+    @DisplayName("작업을 취소하면 진행 중인 AI 호출과 G2B 스크래핑까지 취소되고 크레딧이 환불된다")
+    void cancel_propagatesToUpstreamCalls() {
+        CompletableFuture<GenerateElectronicResponse> task = service.generateSpec(request(), member(1L));
+
+        task.cancel(true);
+
+        assertThat(pendingMainSpec).isCancelled();
+        assertThat(pendingCert).isCancelled();
+        assertThat(pendingG2b).isCancelled();
+        verify(memberService).restoreCredit(1L);
+    }
+
+    @Test
+    @DisplayName("같은 호출에 합류한 요청이 남아 있으면 한 요청을 취소해도 상류 호출은 계속되고, 모두 취소되면 취소된다")
+    void cancel_keepsSharedCallUntilLastWaiterLeaves() {
+        CompletableFuture<GenerateElectronicResponse> first = service.generateSpec(request(), member(1L));
+        CompletableFuture<GenerateElectronicResponse> second = service.generateSpec(request(), member(2L));
+
+        first.cancel(true);
+
+        assertThat(pendingMainSpec).isNotCancelled();
+        assertThat(pendingCert).isNotCancelled();
+        assertThat(pendingG2b).isNotCancelled();
+
+        second.cancel(true);
+
+        assertThat(pendingMainSpec).isCancelled();
+        assertThat(pendingCert).isCancelled();
+        assertThat(pendingG2b).isCancelled();
+    }
+
+    @Test
+    @DisplayName("합류한 요청 하나가 취소되어도 남은 요청은 정상 결과를 받는다")
+    void cancel_doesNotAffectRemainingWaiters() {
+        CompletableFuture<GenerateElectronicResponse> first = service.generateSpec(request(), member(1L));
+        CompletableFuture<GenerateElectronicResponse> second = service.generateSpec(request(), member(2L));
+
+        first.cancel(true);
+        GenerateElectronicResponse mainSpec = new GenerateElectronicResponse();
+        mainSpec.setProductName("삼성 공기청정기");
+        pendingMainSpec.complete(mainSpec);
+        pendingCert.complete(new CertificationResponse());
+        pendingG2b.complete(G2bProductInfo.of("23642147", null));
+
+        assertThat(second.join().getProductName()).isEqualTo("삼성 공기청정기");
+        assertThat(second.join().getG2bClassificationNumber()).isEqualTo("23642147");
+    }
+
+    private static Member member(Long memberId) {
+        return Member.createForToken(memberId, "member" + memberId + "@test.com", Role.FREE_USER);
+    }
+
+    private static GenerateElectronicRequest request() {
+        GenerateElectronicRequest request = new GenerateElectronicRequest();
+        request.setModelName("AX40R3080WMD");
+        request.setSpecExample("sample-spec");
+        request.setProductNameExample("sample-name");
+        return request;
+    }
+}
@@ -0,0 +1,90 @@
+package com.backend.domain.generation.service.impl;
+
+import com.backend.domain.generation.dto.CertificationResponse;
+import com.backend.domain.generation.dto.G2bProductInfo;
+import com.backend.domain.generation.dto.GenerateElectronicRequest;
+import com.backend.domain.generation.dto.GenerateElectronicResponse;
+import com.backend.domain.generation.service.AiProviderService;
+import com.backend.domain.generation.service.ScrapingService;
+import com.backend.domain.log.event.GenerationLogEvent;
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.entity.Role;
+import com.backend.domain.member.service.MemberService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GenerationServiceImplCoalescingTest {
+
+    @Test
+    @DisplayName("같은 모델의 동시 요청은 AI/스크래핑 호출을 공유하고 크레딧과 로그는 회원별로 처리한다")
+    void generateSpec_coalescesConcurrentIdenticalRequests() {
+        AiProviderService aiProviderService = mock(AiProviderService.class);
+        ScrapingService scrapingService = mock(ScrapingService.class);
+        MemberService memberService = mock(MemberService.class);
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        Executor executor = Runnable::run;
+
+        GenerationServiceImpl service = new GenerationServiceImpl(
+                aiProviderService,
+                scrapingService,
+                memberService,
+                executor,
+                eventPublisher
+        );
+
+        CompletableFuture<GenerateElectronicResponse> pendingMainSpec = new CompletableFuture<>();
+        CompletableFuture<CertificationResponse> pendingCert = new CompletableFuture<>();
+        CompletableFuture<G2bProductInfo> pendingG2b = new CompletableFuture<>();
+        when(aiProviderService.fetchMainSpec(anyString(), anyString(), anyString(), any())).thenReturn(pendingMainSpec);
+        when(aiProviderService.fetchCertification(anyString(), any())).thenReturn(pendingCert);
+        when(scrapingService.fetchG2bProductInfo(anyString())).thenReturn(pendingG2b);
+
+        Member first = Member.createForToken(1L, "first@test.com", Role.PLAN_30K);
+        Member second = Member.createForToken(2L, "second@test.com", Role.FREE_USER);
+
+        CompletableFuture<GenerateElectronicResponse> firstFuture = service.generateSpec(request("ax-40r3080wmd"), first);
+        CompletableFuture<GenerateElectronicResponse> secondFuture = service.generateSpec(request("AX40R3080WMD"), second);
+
+        GenerateElectronicResponse mainSpec = new GenerateElectronicResponse();
+        mainSpec.setModelName("AX40R3080WMD");
+        mainSpec.setProductName("삼성 공기청정기");
+        pendingMainSpec.complete(mainSpec);
+        pendingCert.complete(new CertificationResponse());
+        pendingG2b.complete(G2bProductInfo.of("23642147", null));
+
+        GenerateElectronicResponse firstResult = firstFuture.join();
+        GenerateElectronicResponse secondResult = secondFuture.join();
+
+        assertThat(firstResult).isNotSameAs(secondResult);
+        assertThat(firstResult.getProductName()).isEqualTo(secondResult.getProductName());
+
+        verify(aiProviderService, times(1)).fetchMainSpec(anyString(), anyString(), anyString(), any());
+        verify(aiProviderService, times(1)).fetchCertification(anyString(), any());
+        // 표기가 달라도 정규화된 모델명으로 한 번만 검색한다
+        verify(scrapingService, times(1)).fetchG2bProductInfo(anyString());
+        verify(scrapingService).fetchG2bProductInfo("AX40R3080WMD");
+        verify(memberService).decrementCredit(1L);
+        verify(memberService).decrementCredit(2L);
+        verify(eventPublisher, times(2)).publishEvent(any(GenerationLogEvent.class));
+    }
+
+    private static GenerateElectronicRequest request(String modelName) {
+        GenerateElectronicRequest request = new GenerateElectronicRequest();
+        request.setModelName(modelName);
+        request.setSpecExample("sample-spec");
+        request.setProductNameExample("sample-name");
+        return request;
+    }
+}
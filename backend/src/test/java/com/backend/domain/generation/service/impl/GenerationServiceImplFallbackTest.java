@@ -1,24 +1,31 @@
 package com.backend.domain.generation.service.impl;
 
 import com.backend.domain.generation.dto.CertificationResponse;
+import com.backend.domain.generation.dto.G2bProductInfo;
 import com.backend.domain.generation.dto.GenerateElectronicRequest;
 import com.backend.domain.generation.dto.GenerateElectronicResponse;
+import com.backend.domain.generation.dto.GenerateNonElectronicRequest;
+import com.backend.domain.generation.dto.GenerateNonElectronicResponse;
 import com.backend.domain.generation.service.AiProviderService;
 import com.backend.domain.generation.service.ScrapingService;
 import com.backend.domain.member.entity.Member;
 import com.backend.domain.member.entity.Role;
 import com.backend.domain.member.service.MemberService;
+import com.backend.global.exception.TooManyRequestsException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.ApplicationEventPublisher;
 
-import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -51,18 +58,18 @@ class GenerationServiceImplFallbackTest {
 
         Member member = Member.createForToken(10L, "user@test.com", Role.PLAN_30K);
 
-        when(scrapingService.findG2bClassificationNumber(anyString())).thenReturn(Optional.of("23642147"));
-        when(scrapingService.findCountryOfOrigin(anyString())).thenReturn(Optional.empty());
+        when(scrapingService.fetchG2bProductInfo(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(G2bProductInfo.of("23642147", null)));
 
         CompletableFuture<CertificationResponse> certFailed = new CompletableFuture<>();
         certFailed.completeExceptionally(new TimeoutException("cert-timeout"));
-        when(aiProviderService.fetchCertification(anyString())).thenReturn(certFailed);
+        when(aiProviderService.fetchCertification(anyString(), any())).thenReturn(certFailed);
 
         GenerateElectronicResponse mainSpec = new GenerateElectronicResponse();
         mainSpec.setModelName("AX40R3080WMD");
         mainSpec.setProductName("삼성 공기청정기");
         mainSpec.setSpecification("sample");
-        when(aiProviderService.fetchMainSpec(anyString(), anyString(), anyString()))
+        when(aiProviderService.fetchMainSpec(anyString(), anyString(), anyString(), any()))
                 .thenReturn(CompletableFuture.completedFuture(mainSpec));
 
         GenerateElectronicResponse result = service.generateSpec(request, member).join();
@@ -75,5 +82,82 @@ class GenerationServiceImplFallbackTest {
         verify(memberService).decrementCredit(10L);
         verify(memberService, never()).restoreCredit(anyLong());
     }
-}
 
+    @Test
+    @DisplayName("크레딧 차감 후 실행 풀이 작업을 거절하면 크레딧을 돌려주고 429로 응답한다")
+    void generateGeneralSpec_refundsCreditWhenExecutorRejects() {
+        AiProviderService aiProviderService = mock(AiProviderService.class);
+        MemberService memberService = mock(MemberService.class);
+        Executor rejectingExecutor = command -> {
+            throw new RejectedExecutionException("queue full");
+        };
+
+        GenerationServiceImpl service = new GenerationServiceImpl(
+                aiProviderService,
+                mock(ScrapingService.class),
+                memberService,
+                rejectingExecutor,
+                mock(ApplicationEventPublisher.class)
+        );
+
+        GenerateNonElectronicRequest request = new GenerateNonElectronicRequest();
+        request.setProductName("텀블러");
+        request.setSpecExample("용량: {용량}");
+        Member member = Member.createForToken(10L, "user@test.com", Role.PLAN_30K);
+
+        when(aiProviderService.fetchGeneralSpec(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(new GenerateNonElectronicResponse()));
+
+        assertThatThrownBy(() -> service.generateGeneralSpec(request, member))
+                .isInstanceOfSatisfying(TooManyRequestsException.class, e ->
+                        assertThat(e.getRetryAfter()).isNotNull());
+
+        verify(memberService).decrementCredit(10L);
+        verify(memberService).restoreCredit(10L);
+    }
+
+    @Test
+    @DisplayName("작업 시작 후 후속 단계가 실행 풀에서 거절되면 작업을 429로 끝내고 크레딧을 돌려준다")
+    void generateSpec_failsTaskAndRefundsWhenLaterStageIsRejected() {
+        AiProviderService aiProviderService = mock(AiProviderService.class);
+        ScrapingService scrapingService = mock(ScrapingService.class);
+        MemberService memberService = mock(MemberService.class);
+        AtomicBoolean saturated = new AtomicBoolean(false);
+        Executor executor = command -> {
+            if (saturated.get()) {
+                throw new RejectedExecutionException("queue full");
+            }
+            command.run();
+        };
+
+        GenerationServiceImpl service = new GenerationServiceImpl(
+                aiProviderService,
+                scrapingService,
+                memberService,
+                executor,
+                mock(ApplicationEventPublisher.class)
+        );
+
+        GenerateElectronicRequest request = new GenerateElectronicRequest();
+        request.setModelName("AX40R3080WMD");
+        request.setSpecExample("sample-spec");
+        request.setProductNameExample("sample-name");
+        Member member = Member.createForToken(10L, "user@test.com", Role.PLAN_30K);
+
+        when(scrapingService.fetchG2bProductInfo(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(G2bProductInfo.empty()));
+        when(aiProviderService.fetchCertification(anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(new CertificationResponse()));
+        CompletableFuture<GenerateElectronicResponse> mainSpec = new CompletableFuture<>();
+        when(aiProviderService.fetchMainSpec(anyString(), anyString(), anyString(), any())).thenReturn(mainSpec);
+
+        CompletableFuture<GenerateElectronicResponse> task = service.generateSpec(request, member);
+        saturated.set(true);
+        mainSpec.complete(new GenerateElectronicResponse());
+
+        assertThat(task).isCompletedExceptionally();
+        assertThatThrownBy(task::join).hasCauseInstanceOf(TooManyRequestsException.class);
+        verify(memberService).decrementCredit(10L);
+        verify(memberService).restoreCredit(10L);
+    }
+}
@@ -0,0 +1,194 @@
+package com.backend.domain.generation.service.impl;
+
+import com.backend.domain.generation.dto.G2bProductInfo;
+import com.backend.domain.generation.dto.GenerateElectronicRequest;
+import com.backend.domain.generation.dto.GenerateElectronicResponse;
+import com.backend.domain.generation.service.ScrapingService;
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.entity.Role;
+import com.backend.domain.member.service.MemberService;
+import com.backend.global.util.PromptBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 분리 모드(메인 스펙 + 인증번호 2회 호출)와 통합 모드(1회 호출)의 상류 호출 수/프롬프트 크기 비교
+ */
+class GenerationServiceImplFusedPromptTest {
+
+    private static final int REQUESTS_PER_MODE = 5;
+
+    private MockWebServer mockWebServer;
+    private CountingDispatcher dispatcher;
+    private ExecutorService taskExecutor;
+    private GenerationServiceImpl generationService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dispatcher = new CountingDispatcher();
+        mockWebServer = new MockWebServer();
+        mockWebServer.setDispatcher(dispatcher);
+        mockWebServer.start();
+
+        TestAiProviderService aiProviderService = new TestAiProviderService(
+                new PromptBuilder(),
+                new ObjectMapper(),
+                WebClient.builder().build(),
+                mockWebServer.url("/v1/generation").toString()
+        );
+
+        ScrapingService scrapingService = mock(ScrapingService.class);
+        when(scrapingService.fetchG2bProductInfo(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(G2bProductInfo.empty()));
+
+        taskExecutor = Executors.newFixedThreadPool(4);
+        generationService = new GenerationServiceImpl(
+                aiProviderService,
+                scrapingService,
+                mock(MemberService.class),
+                taskExecutor,
+                mock(ApplicationEventPublisher.class)
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        taskExecutor.shutdownNow();
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    @DisplayName("통합 모드는 요청당 상류 호출을 절반으로 줄이고 같은 필드를 채운다")
+    void compareSplitAndFusedModes() {
+        ModeMetrics split = runMode(false);
+        ModeMetrics fused = runMode(true);
+
+        assertThat(split.callsPerRequest()).isEqualTo(2.0);
+        assertThat(fused.callsPerRequest()).isEqualTo(1.0);
+        assertThat(fused.promptCharsPerRequest()).isLessThan(split.promptCharsPerRequest());
+    }
+
+    private ModeMetrics runMode(boolean fusedEnabled) {
+        ReflectionTestUtils.setField(generationService, "fusedCertificationEnabled", fusedEnabled);
+        dispatcher.reset();
+        Member member = Member.createForToken(1L, "bench@example.com", Role.PLAN_30K);
+
+        for (int i = 0; i < REQUESTS_PER_MODE; i++) {
+            GenerateElectronicRequest request = new GenerateElectronicRequest();
+            request.setModelName((fusedEnabled ? "FUSED-" : "SPLIT-") + i);
+            request.setSpecExample("정격: {전압}");
+            request.setProductNameExample("삼성 공기청정기");
+
+            GenerateElectronicResponse response = generationService.generateSpec(request, member).join();
+
+            assertThat(response.getProductName()).isEqualTo("TEST_PRODUCT");
+            assertThat(response.getKatsCertificationNumber()).isEqualTo("KATS-TEST");
+            assertThat(response.getKcCertificationNumber()).isEqualTo("KC-TEST");
+        }
+
+        return new ModeMetrics(
+                (double) dispatcher.calls.get() / REQUESTS_PER_MODE,
+                dispatcher.promptChars.get() / REQUESTS_PER_MODE
+        );
+    }
+
+    private record ModeMetrics(double callsPerRequest, long promptCharsPerRequest) {
+    }
+
+    private static final class TestAiProviderService extends AbstractGenerationService {
+
+        private final String apiUrl;
+
+        private TestAiProviderService(
+                PromptBuilder promptBuilder,
+                ObjectMapper objectMapper,
+                WebClient webClient,
+                String apiUrl
+        ) {
+            super(promptBuilder, objectMapper, webClient, new SimpleMeterRegistry());
+            this.apiUrl = apiUrl;
+        }
+
+        @Override
+        protected String getApiUrl() {
+            return apiUrl;
+        }
+
+        @Override
+        protected HttpEntity<Object> createRequestEntity(String prompt) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            return new HttpEntity<>(Map.of("prompt", prompt), headers);
+        }
+
+        @Override
+        protected String extractTextFromResponse(String jsonResponse) throws Exception {
+            return objectMapper.readTree(jsonResponse).path("text").asText();
+        }
+    }
+
+    private static final class CountingDispatcher extends Dispatcher {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicLong promptChars = new AtomicLong();
+
+        void reset() {
+            calls.set(0);
+            promptChars.set(0);
+        }
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            String body = request.getBody().readUtf8();
+            calls.incrementAndGet();
+            promptChars.addAndGet(body.length());
+
+            String mainFields = "\"productName\":\"TEST_PRODUCT\",\"specification\":\"정격: 220V\","
+                    + "\"modelName\":\"MODEL\",\"manufacturer\":\"TEST\",\"countryOfOrigin\":\"\"";
+            String certFields = "\"katsCertificationNumber\":\"KATS-TEST\",\"kcCertificationNumber\":\"KC-TEST\"";
+
+            if (body.contains("인증번호 조사 규칙")) {
+                return successResponse("{" + mainFields + "," + certFields + "}");
+            }
+            if (body.contains("입력 모델명")) {
+                return successResponse("{" + mainFields + "}");
+            }
+            return successResponse("{" + certFields + "}");
+        }
+
+        private static MockResponse successResponse(String innerJson) {
+            String body = "{\"text\":\"" + innerJson.replace("\\", "\\\\").replace("\"", "\\\"") + "\"}";
+            return new MockResponse()
+                    .setResponseCode(200)
+                    .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .setBody(body);
+        }
+    }
+}
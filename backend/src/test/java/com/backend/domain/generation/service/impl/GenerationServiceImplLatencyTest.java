@@ -3,6 +3,7 @@ package com.backend.domain.generation.service.impl;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
+import com.backend.domain.generation.dto.G2bProductInfo;
 import com.backend.domain.generation.dto.GenerateElectronicRequest;
 import com.backend.domain.generation.dto.GenerateElectronicResponse;
 import com.backend.domain.generation.service.AiProviderService;
@@ -13,6 +14,7 @@ import com.backend.domain.member.service.MemberService;
 import com.backend.global.util.PromptBuilder;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
@@ -20,6 +22,7 @@ import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
@@ -29,9 +32,10 @@ import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -40,10 +44,15 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+/**
+ * 생성 요청 구간별 지연 시간을 로그에서 수집한다.
+ * 처리 시간 비교는 환경에 따라 흔들리므로 benchmark 태그로 분리해 기본 테스트에서 제외한다. (./gradlew benchmark)
+ */
 class GenerationServiceImplLatencyTest {
 
     private static final Pattern ELAPSED_PATTERN = Pattern.compile("elapsedMs=(\\d+)");
@@ -72,14 +81,10 @@ class GenerationServiceImplLatencyTest {
         );
 
         ScrapingService scrapingService = mock(ScrapingService.class);
-        when(scrapingService.findG2bClassificationNumber(anyString())).thenAnswer(invocation -> {
-            TimeUnit.MILLISECONDS.sleep(1400);
-            return Optional.of("43211503");
-        });
-        when(scrapingService.findCountryOfOrigin(anyString())).thenAnswer(invocation -> {
-            TimeUnit.MILLISECONDS.sleep(1300);
-            return Optional.of("KOREA");
-        });
+        when(scrapingService.fetchG2bProductInfo(anyString())).thenAnswer(invocation -> CompletableFuture.supplyAsync(
+                () -> G2bProductInfo.of("43211503", "KOREA"),
+                CompletableFuture.delayedExecutor(1400, TimeUnit.MILLISECONDS)
+        ));
 
         MemberService memberService = mock(MemberService.class);
         ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
@@ -105,8 +110,11 @@ class GenerationServiceImplLatencyTest {
     }
 
     @Test
+    @Tag("benchmark")
     @DisplayName("두 번의 생성 요청 지연 시간을 수집해 병목 구간을 확인한다")
     void collectElapsedMetricsAcrossTwoCalls() {
+        // 첫 호출의 연결/클래스 로딩 비용이 비교를 흐리지 않도록 한 번 먼저 호출해 둔다
+        runAndCollect("MODEL-OK");
         CallMetrics firstRun = runAndCollect("MODEL-OK");
         CallMetrics secondRun = runAndCollect("MODEL-RETRY");
 
@@ -116,20 +124,18 @@ class GenerationServiceImplLatencyTest {
         assertThat(secondRun.mainAiElapsedMs).isGreaterThan(firstRun.mainAiElapsedMs);
 
         System.out.printf(
-                "[LATENCY] run=1 total=%d g2b=%d country=%d certAi=%d mainAi=%d retry=%d bottleneck=%s%n",
+                "[LATENCY] run=1 total=%d g2b=%d certAi=%d mainAi=%d retry=%d bottleneck=%s%n",
                 firstRun.totalElapsedMs,
                 firstRun.g2bElapsedMs,
-                firstRun.countryElapsedMs,
                 firstRun.certAiElapsedMs,
                 firstRun.mainAiElapsedMs,
                 firstRun.retryElapsedMs,
                 firstRun.bottleneckStage()
         );
         System.out.printf(
-                "[LATENCY] run=2 total=%d g2b=%d country=%d certAi=%d mainAi=%d retry=%d bottleneck=%s%n",
+                "[LATENCY] run=2 total=%d g2b=%d certAi=%d mainAi=%d retry=%d bottleneck=%s%n",
                 secondRun.totalElapsedMs,
                 secondRun.g2bElapsedMs,
-                secondRun.countryElapsedMs,
                 secondRun.certAiElapsedMs,
                 secondRun.mainAiElapsedMs,
                 secondRun.retryElapsedMs,
@@ -149,6 +155,9 @@ class GenerationServiceImplLatencyTest {
         Member member = Member.createForToken(1L, "perf@example.com", Role.PLAN_30K);
         GenerateElectronicResponse response = generationService.generateSpec(request, member).join();
         assertThat(response.getModelName()).isEqualTo(modelName);
+        // 완료 로그는 결과가 전달된 뒤 완료 단계에서 남으므로 기록될 때까지 기다린다
+        await().atMost(Duration.ofSeconds(5)).ignoreExceptions().until(() -> generationAppender.list.stream()
+                .anyMatch(event -> event.getFormattedMessage().contains("totalElapsedMs=")));
 
         List<String> generationLogs = generationAppender.list.stream()
                 .map(ILoggingEvent::getFormattedMessage)
@@ -180,7 +189,6 @@ class GenerationServiceImplLatencyTest {
     private record CallMetrics(
             long totalElapsedMs,
             long g2bElapsedMs,
-            long countryElapsedMs,
             long certAiElapsedMs,
             long mainAiElapsedMs,
             long retryElapsedMs
@@ -188,11 +196,6 @@ class GenerationServiceImplLatencyTest {
         static CallMetrics from(List<String> generationLogs, List<String> aiLogs) {
             long totalElapsed = findRequired(generationLogs, log -> log.contains("totalElapsedMs="), TOTAL_PATTERN);
             long g2bElapsed = findRequired(generationLogs, log -> log.contains("G2B") && log.contains("elapsedMs="), ELAPSED_PATTERN);
-            long countryElapsed = findRequired(
-                    generationLogs,
-                    log -> log.contains("found=") && !log.contains("G2B") && log.contains("elapsedMs="),
-                    ELAPSED_PATTERN
-            );
             long certAiElapsed = findMaxRequired(
                     aiLogs,
                     log -> log.contains("responseType=CertificationResponse") && log.contains("elapsedMs="),
@@ -209,21 +212,18 @@ class GenerationServiceImplLatencyTest {
                     ELAPSED_PATTERN
             );
 
-            return new CallMetrics(totalElapsed, g2bElapsed, countryElapsed, certAiElapsed, mainAiElapsed, retryElapsed);
+            return new CallMetrics(totalElapsed, g2bElapsed, certAiElapsed, mainAiElapsed, retryElapsed);
         }
 
         String bottleneckStage() {
-            long max = Math.max(Math.max(g2bElapsedMs, countryElapsedMs), Math.max(certAiElapsedMs, mainAiElapsedMs));
+            long max = Math.max(g2bElapsedMs, Math.max(certAiElapsedMs, mainAiElapsedMs));
             if (max == mainAiElapsedMs) {
                 return "main-spec-ai";
             }
             if (max == certAiElapsedMs) {
                 return "certification-ai";
             }
-            if (max == g2bElapsedMs) {
-                return "scraping-g2b";
-            }
-            return "scraping-country";
+            return "scraping-g2b";
         }
     }
 
@@ -279,7 +279,7 @@ class GenerationServiceImplLatencyTest {
                 WebClient webClient,
                 String apiUrl
         ) {
-            super(promptBuilder, objectMapper, webClient);
+            super(promptBuilder, objectMapper, webClient, new SimpleMeterRegistry());
             this.apiUrl = apiUrl;
         }
 
@@ -0,0 +1,111 @@
+package com.backend.domain.generation.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProviderCircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(100).toNanos();
+    private static final long SLOW = Duration.ofSeconds(20).toNanos();
+
+    @Test
+    @DisplayName("실패율이 임계값을 넘으면 OPEN으로 전환되어 호출을 즉시 거절한다")
+    void opensOnFailureRate() {
+        ProviderCircuitBreaker breaker = newBreaker(Duration.ofMinutes(1));
+
+        for (int i = 0; i < 5; i++) {
+            breaker.onSuccess(breaker.tryAcquire(), FAST);
+            breaker.onFailure(breaker.tryAcquire(), FAST);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isEqualTo(ProviderCircuitBreaker.REJECTED);
+    }
+
+    @Test
+    @DisplayName("느린 호출 비율이 임계값을 넘어도 OPEN으로 전환된다")
+    void opensOnSlowCallRate() {
+        ProviderCircuitBreaker breaker = newBreaker(Duration.ofMinutes(1));
+
+        for (int i = 0; i < 10; i++) {
+            breaker.onSuccess(breaker.tryAcquire(), SLOW);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 미만에서는 실패해도 열리지 않는다")
+    void staysClosedBelowMinimumCalls() {
+        ProviderCircuitBreaker breaker = newBreaker(Duration.ofMinutes(1));
+
+        for (int i = 0; i < 9; i++) {
+            breaker.onFailure(breaker.tryAcquire(), FAST);
+        }
+
+        assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 탐색 호출만 허용하고, 모두 성공하면 CLOSED로 복구된다")
+    void halfOpenProbesCloseOnSuccess() {
+        ProviderCircuitBreaker breaker = openedBreaker();
+
+        long first = breaker.tryAcquire();
+        long second = breaker.tryAcquire();
+        assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isEqualTo(ProviderCircuitBreaker.REJECTED);
+
+        breaker.onSuccess(first, FAST);
+        breaker.onSuccess(second, FAST);
+
+        assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.CLOSED);
+        assertThat(breaker.getFailureRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("탐색 호출이 실패하면 다시 OPEN으로 전환되고, 이전 세대의 결과는 무시된다")
+    void halfOpenProbeFailureReopens() {
+        ProviderCircuitBreaker breaker = openedBreaker();
+
+        long first = breaker.tryAcquire();
+        long second = breaker.tryAcquire();
+        breaker.onFailure(first, FAST);
+        assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.OPEN);
+
+        breaker.onSuccess(second, FAST);
+        assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("취소된 탐색 호출은 슬롯을 돌려준다")
+    void ignoredProbeReleasesSlot() {
+        ProviderCircuitBreaker breaker = openedBreaker();
+
+        long first = breaker.tryAcquire();
+        breaker.tryAcquire();
+        breaker.onIgnored(first);
+
+        assertThat(breaker.tryAcquire()).isNotEqualTo(ProviderCircuitBreaker.REJECTED);
+    }
+
+    private ProviderCircuitBreaker openedBreaker() {
+        ProviderCircuitBreaker breaker = newBreaker(Duration.ZERO);
+        for (int i = 0; i < 10; i++) {
+            breaker.onFailure(breaker.tryAcquire(), FAST);
+        }
+        assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.OPEN);
+        return breaker;
+    }
+
+    private ProviderCircuitBreaker newBreaker(Duration openDuration) {
+        return new ProviderCircuitBreaker(
+                "test", 20, 10, 0.5, 0.8, Duration.ofSeconds(15), openDuration, 2, new SimpleMeterRegistry()
+        );
+    }
+}
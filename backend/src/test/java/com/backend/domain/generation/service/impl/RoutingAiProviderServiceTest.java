@@ -0,0 +1,242 @@
+package com.backend.domain.generation.service.impl;
+
+import com.backend.domain.generation.dto.CertificationResponse;
+import com.backend.domain.generation.dto.GenerateElectronicResponse;
+import com.backend.domain.member.entity.Role;
+import com.backend.global.exception.GenerateApiException;
+import com.backend.global.util.PromptBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoutingAiProviderServiceTest {
+
+    @Test
+    @DisplayName("최근 지연이 더 짧은 제공자로 호출을 보낸다")
+    void fetchCertification_prefersFasterProvider() {
+        FakeProvider slow = new FakeProvider("slow", true, () -> CompletableFuture.supplyAsync(
+                () -> certification("SLOW"),
+                CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS)
+        ));
+        FakeProvider fast = new FakeProvider("fast", true, () -> CompletableFuture.completedFuture(certification("FAST")));
+        RoutingAiProviderService router = newRouter(List.of(slow, fast));
+
+        router.fetchCertification("WARMUP-1").join();
+        router.fetchCertification("WARMUP-2").join();
+        for (int i = 0; i < 10; i++) {
+            assertThat(router.fetchCertification("MODEL").join().getKcCertificationNumber()).isEqualTo("FAST");
+        }
+
+        assertThat(slow.calls.get()).isEqualTo(1);
+        assertThat(fast.calls.get()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("호출 종류마다 더 빠른 제공자를 따로 고른다")
+    void route_ranksProvidersPerOperation() {
+        FakeProvider certFast = new FakeProvider("cert-fast", true,
+                () -> CompletableFuture.completedFuture(certification("CERT-FAST")),
+                () -> delayed(mainSpec("SPEC-SLOW")));
+        FakeProvider specFast = new FakeProvider("spec-fast", true,
+                () -> delayed(certification("CERT-SLOW")),
+                () -> CompletableFuture.completedFuture(mainSpec("SPEC-FAST")));
+        RoutingAiProviderService router = newRouter(List.of(certFast, specFast));
+
+        // 측정값이 없는 제공자를 한 번씩 시도해 종류별 지연을 학습한다
+        router.fetchCertification("WARMUP-1").join();
+        router.fetchCertification("WARMUP-2").join();
+        router.fetchMainSpec("WARMUP-1", "spec", "name").join();
+        router.fetchMainSpec("WARMUP-2", "spec", "name").join();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(router.fetchCertification("MODEL").join().getKcCertificationNumber()).isEqualTo("CERT-FAST");
+            assertThat(router.fetchMainSpec("MODEL", "spec", "name").join().getProductName()).isEqualTo("SPEC-FAST");
+        }
+    }
+
+    @Test
+    @DisplayName("측정값 없이 실패만 한 제공자는 계속 먼저 시도되지 않는다")
+    void fetchCertification_doesNotKeepPreferringUnmeasuredFailingProvider() {
+        FakeProvider broken = new FakeProvider("broken", true,
+                () -> CompletableFuture.failedFuture(new GenerateApiException("upstream down")));
+        FakeProvider healthy = new FakeProvider("healthy", true,
+                () -> CompletableFuture.completedFuture(certification("OK")));
+        RoutingAiProviderService router = newRouter(List.of(broken, healthy));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(router.fetchCertification("MODEL").join().getKcCertificationNumber()).isEqualTo("OK");
+        }
+
+        assertThat(broken.calls.get()).isEqualTo(1);
+        assertThat(healthy.calls.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("선택된 제공자가 실패하면 다음 제공자로 전환한다")
+    void fetchCertification_failsOverToNextProvider() {
+        FakeProvider broken = new FakeProvider("broken", true,
+                () -> CompletableFuture.failedFuture(new GenerateApiException("upstream down")));
+        FakeProvider healthy = new FakeProvider("healthy", true,
+                () -> CompletableFuture.completedFuture(certification("OK")));
+        RoutingAiProviderService router = newRouter(List.of(broken, healthy));
+
+        CertificationResponse response = router.fetchCertification("MODEL").join();
+
+        assertThat(response.getKcCertificationNumber()).isEqualTo("OK");
+        assertThat(broken.calls.get()).isEqualTo(1);
+        assertThat(healthy.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모든 제공자가 실패하면 마지막 오류로 실패한다")
+    void fetchCertification_failsWhenAllProvidersFail() {
+        FakeProvider first = new FakeProvider("first", true,
+                () -> CompletableFuture.failedFuture(new GenerateApiException("first down")));
+        FakeProvider second = new FakeProvider("second", true,
+                () -> CompletableFuture.failedFuture(new GenerateApiException("second down")));
+        RoutingAiProviderService router = newRouter(List.of(first, second));
+
+        assertThatThrownBy(() -> router.fetchCertification("MODEL").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(GenerateApiException.class)
+                .hasMessageContaining("second down");
+    }
+
+    @Test
+    @DisplayName("프리미엄 플랜은 두 제공자를 동시에 호출해 먼저 성공한 응답을 쓰고 나머지는 취소한다")
+    void fetchCertification_racesProvidersForPremiumPlan() {
+        CompletableFuture<CertificationResponse> pending = new CompletableFuture<>();
+        FakeProvider stuck = new FakeProvider("stuck", true, () -> pending);
+        FakeProvider fast = new FakeProvider("fast", true, () -> CompletableFuture.completedFuture(certification("FAST")));
+        RoutingAiProviderService router = newRouter(List.of(stuck, fast));
+
+        CertificationResponse response = router.fetchCertification("MODEL", Role.PLAN_100K).join();
+
+        assertThat(response.getKcCertificationNumber()).isEqualTo("FAST");
+        assertThat(stuck.calls.get()).isEqualTo(1);
+        assertThat(pending).isCancelled();
+    }
+
+    @Test
+    @DisplayName("일반 플랜은 race 없이 한 제공자만 호출한다")
+    void fetchCertification_doesNotRaceForStandardPlan() {
+        FakeProvider first = new FakeProvider("first", true, () -> CompletableFuture.completedFuture(certification("FIRST")));
+        FakeProvider second = new FakeProvider("second", true, () -> CompletableFuture.completedFuture(certification("SECOND")));
+        RoutingAiProviderService router = newRouter(List.of(first, second));
+
+        router.fetchCertification("MODEL", Role.PLAN_30K).join();
+
+        assertThat(first.calls.get() + second.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("API 키가 없는 제공자는 라우팅 대상에서 제외한다")
+    void fetchCertification_skipsUnconfiguredProvider() {
+        FakeProvider unconfigured = new FakeProvider("unconfigured", false,
+                () -> CompletableFuture.completedFuture(certification("NONE")));
+        FakeProvider configured = new FakeProvider("configured", true,
+                () -> CompletableFuture.completedFuture(certification("OK")));
+        RoutingAiProviderService router = newRouter(List.of(unconfigured, configured));
+
+        assertThat(router.fetchCertification("MODEL", Role.ADMIN).join().getKcCertificationNumber()).isEqualTo("OK");
+        assertThat(unconfigured.calls.get()).isZero();
+    }
+
+    private RoutingAiProviderService newRouter(List<AbstractGenerationService> providers) {
+        RoutingAiProviderService router = new RoutingAiProviderService(providers, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(router, "exploreRatio", 0.0);
+        return router;
+    }
+
+    private static <T> CompletableFuture<T> delayed(T response) {
+        return CompletableFuture.supplyAsync(() -> response, CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS));
+    }
+
+    private static GenerateElectronicResponse mainSpec(String productName) {
+        GenerateElectronicResponse response = new GenerateElectronicResponse();
+        response.setProductName(productName);
+        return response;
+    }
+
+    private static CertificationResponse certification(String kcNumber) {
+        CertificationResponse response = new CertificationResponse();
+        response.setKcCertificationNumber(kcNumber);
+        return response;
+    }
+
+    private static final class FakeProvider extends AbstractGenerationService {
+
+        private final String name;
+        private final boolean configured;
+        private final Supplier<CompletableFuture<CertificationResponse>> responder;
+        private final Supplier<CompletableFuture<GenerateElectronicResponse>> mainSpecResponder;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private FakeProvider(String name, boolean configured, Supplier<CompletableFuture<CertificationResponse>> responder) {
+            this(name, configured, responder, () -> CompletableFuture.failedFuture(new UnsupportedOperationException()));
+        }
+
+        private FakeProvider(
+                String name,
+                boolean configured,
+                Supplier<CompletableFuture<CertificationResponse>> responder,
+                Supplier<CompletableFuture<GenerateElectronicResponse>> mainSpecResponder
+        ) {
+            super(new PromptBuilder(), new ObjectMapper(), WebClient.builder().build(), new SimpleMeterRegistry());
+            this.name = name;
+            this.configured = configured;
+            this.responder = responder;
+            this.mainSpecResponder = mainSpecResponder;
+        }
+
+        @Override
+        public CompletableFuture<CertificationResponse> fetchCertification(String model) {
+            calls.incrementAndGet();
+            return responder.get();
+        }
+
+        @Override
+        public CompletableFuture<GenerateElectronicResponse> fetchMainSpec(String model, String specExample, String productNameExample) {
+            return mainSpecResponder.get();
+        }
+
+        @Override
+        protected String getProviderName() {
+            return name;
+        }
+
+        @Override
+        protected boolean isConfigured() {
+            return configured;
+        }
+
+        @Override
+        protected String getApiUrl() {
+            return "http://localhost";
+        }
+
+        @Override
+        protected HttpEntity<Object> createRequestEntity(String prompt) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected String extractTextFromResponse(String jsonResponse) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}